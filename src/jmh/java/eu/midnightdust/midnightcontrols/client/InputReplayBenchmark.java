@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import eu.midnightdust.midnightcontrols.client.controller.InputRecorder;
+import eu.midnightdust.midnightcontrols.client.controller.InputReplay;
+import eu.midnightdust.midnightcontrols.client.controller.SyntheticInput;
+import net.minecraft.client.MinecraftClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a whole controller tick driven by an input recording.
+ * <p>
+ * A recording made in game can be used with {@code -p trace=<path>}, a synthetic one is recorded otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputReplayBenchmark {
+    @Param({"30", "150", "500"})
+    public int size;
+    @Param({""})
+    public String trace;
+
+    private MinecraftClient client;
+    private MidnightInput input;
+    private Path path;
+    private long ticks;
+    private long tick = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.client = SyntheticInput.allocateClient();
+        this.input = new MidnightInput();
+        SyntheticInput.fillBindings(this.size);
+
+        if (this.trace.isEmpty()) {
+            this.path = Files.createTempFile("midnightcontrols", ".mcinput");
+            this.path.toFile().deleteOnExit();
+            recordSyntheticTrace(this.path);
+        } else {
+            this.path = Path.of(this.trace);
+        }
+
+        try (var replay = InputReplay.open(this.path)) {
+            while (replay.nextTick())
+                this.ticks++;
+        }
+        if (this.ticks == 0)
+            throw new IllegalStateException("The input recording " + this.path + " has no tick.");
+    }
+
+    private static void recordSyntheticTrace(Path path) throws IOException {
+        var random = new Random(0);
+        try (var recorder = InputRecorder.open(path)) {
+            int buttons = 0;
+            float[] axes = new float[6];
+            for (int tick = 0; tick < 2000; tick++) {
+                // Players hold buttons for several ticks and move the sticks continuously.
+                if (random.nextInt(8) == 0)
+                    buttons ^= 1 << random.nextInt(15);
+                for (int axis = 0; axis < axes.length; axis++)
+                    axes[axis] = Math.max(-1.f, Math.min(1.f, axes[axis] + (random.nextFloat() - .5f) * .2f));
+                recorder.recordPrimary(SyntheticInput.gamepadState(buttons, axes));
+                recorder.tick(true, false, false);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.input.stopReplay();
+    }
+
+    @Benchmark
+    public void tickController() throws IOException {
+        // Restarts the replay before it ends, the controllers are never read.
+        if (this.tick++ % this.ticks == 0)
+            this.input.startReplay(this.path);
+        this.input.tickController(this.client);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.controller.SyntheticInput;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the loading of the button bindings from the configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MidnightControlsConfigBenchmark {
+    @Param({"30", "150", "500"})
+    public int size;
+
+    private ButtonBinding[] bindings;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.bindings = SyntheticInput.fillBindings(this.size).toArray(new ButtonBinding[0]);
+
+        // Half of the bindings are customized, the other half use their default buttons.
+        var random = new Random(this.size);
+        var config = new HashMap<String, String>();
+        for (int i = 0; i < this.bindings.length; i += 2) {
+            var binding = this.bindings[i];
+            binding.setButton(SyntheticInput.randomChord(random));
+            config.put("controller.controls." + binding.getName(), binding.getButtonCode());
+        }
+        MidnightControlsConfig.BINDINGS = config;
+    }
+
+    @Benchmark
+    public void loadButtonBinding() {
+        for (var binding : this.bindings)
+            MidnightControlsConfig.loadButtonBinding(binding);
+    }
+}
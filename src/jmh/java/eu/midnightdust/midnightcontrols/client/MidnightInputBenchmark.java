@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import eu.midnightdust.midnightcontrols.client.controller.GamepadState;
+import eu.midnightdust.midnightcontrols.client.controller.SyntheticInput;
+import net.minecraft.client.MinecraftClient;
+import org.lwjgl.glfw.GLFW;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the conversion of the controller states into button states.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MidnightInputBenchmark {
+    @Param({"30", "150", "500"})
+    public int size;
+
+    private MinecraftClient client;
+    private MidnightInput input;
+    private GamepadState[] states;
+    private int state = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.client = SyntheticInput.allocateClient();
+        this.input = new MidnightInput();
+        SyntheticInput.fillBindings(this.size);
+
+        this.states = new GamepadState[]{
+                SyntheticInput.gamepadState(0),
+                SyntheticInput.gamepadState(1 << GLFW.GLFW_GAMEPAD_BUTTON_A, 0.f, -.8f),
+                SyntheticInput.gamepadState(1 << GLFW.GLFW_GAMEPAD_BUTTON_A | 1 << GLFW.GLFW_GAMEPAD_BUTTON_RIGHT_BUMPER, .3f, -1.f, .6f, .1f),
+                SyntheticInput.gamepadState(1 << GLFW.GLFW_GAMEPAD_BUTTON_X, .05f, .02f, -.9f, .7f, 1.f, -1.f),
+                SyntheticInput.gamepadState(0, 0.f, 0.f, 0.f, 0.f, -1.f, 1.f)
+        };
+    }
+
+    private GamepadState nextState() {
+        var state = this.states[this.state];
+        this.state = (this.state + 1) % this.states.length;
+        return state;
+    }
+
+    @Benchmark
+    public void fetchButtonInput() {
+        this.input.fetchButtonInput(this.client, this.nextState(), false);
+    }
+
+    @Benchmark
+    public void fetchAxeInput() {
+        this.input.fetchAxeInput(this.client, this.nextState(), false);
+    }
+}
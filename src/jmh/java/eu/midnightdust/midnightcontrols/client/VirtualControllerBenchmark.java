@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import eu.midnightdust.midnightcontrols.client.controller.Controller;
+import eu.midnightdust.midnightcontrols.client.controller.SyntheticInput;
+import eu.midnightdust.midnightcontrols.client.controller.VirtualControllerBackend;
+import net.minecraft.client.MinecraftClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/**
+ * Benchmarks a whole controller tick reading a scripted virtual gamepad.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualControllerBenchmark {
+    @Param({"30", "150", "500"})
+    public int size;
+
+    private MinecraftClient client;
+    private MidnightInput input;
+    private long time = 0L;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.client = SyntheticInput.allocateClient();
+        this.input = new MidnightInput();
+        SyntheticInput.fillBindings(this.size);
+
+        var backend = new VirtualControllerBackend();
+        backend.setClock(() -> this.time);
+        backend.connect(GLFW_JOYSTICK_1, "Benchmark Gamepad")
+                .press(GLFW_GAMEPAD_BUTTON_A, 0, 300)
+                .press(GLFW_GAMEPAD_BUTTON_RIGHT_BUMPER, 500, 550)
+                .press(GLFW_GAMEPAD_BUTTON_X, 800, 1600)
+                .press(GLFW_GAMEPAD_BUTTON_DPAD_UP, 1200, 1250)
+                .axis(GLFW_GAMEPAD_AXIS_LEFT_Y, 0, 0.f)
+                .axis(GLFW_GAMEPAD_AXIS_LEFT_Y, 400, -1.f)
+                .axis(GLFW_GAMEPAD_AXIS_LEFT_Y, 1400, -1.f)
+                .axis(GLFW_GAMEPAD_AXIS_LEFT_Y, 1600, 0.f)
+                .axis(GLFW_GAMEPAD_AXIS_RIGHT_X, 200, 0.f)
+                .axis(GLFW_GAMEPAD_AXIS_RIGHT_X, 700, .8f)
+                .axis(GLFW_GAMEPAD_AXIS_RIGHT_X, 1000, -.6f)
+                .axis(GLFW_GAMEPAD_AXIS_RIGHT_X, 1300, 0.f)
+                .axis(GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER, 900, -1.f)
+                .axis(GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER, 950, 1.f)
+                .axis(GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER, 1500, -1.f)
+                .loop(2000);
+        Controller.setBackend(backend);
+    }
+
+    @Benchmark
+    public void tickController() {
+        this.time += 50L;
+        this.input.tickController(this.client);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import net.minecraft.client.MinecraftClient;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-tick cost of the button bindings against binding tables of several sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputManagerBenchmark {
+    @Param({"30", "150", "500"})
+    public int size;
+
+    private MinecraftClient client;
+    private ButtonBinding[] bindings;
+    private int[][] frames;
+    private int[][] chords;
+    private int frame = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.client = SyntheticInput.allocateClient();
+        List<ButtonBinding> bindings = SyntheticInput.fillBindings(this.size);
+        this.bindings = bindings.toArray(new ButtonBinding[0]);
+
+        var random = new Random(this.size);
+        // A few ticks of input: idle, single buttons, held chords and releases.
+        this.frames = new int[16][];
+        for (int i = 0; i < this.frames.length; i++) {
+            if (i % 4 == 0)
+                this.frames[i] = new int[0];
+            else
+                this.frames[i] = this.bindings[random.nextInt(this.bindings.length)].getButton().clone();
+        }
+        this.chords = new int[64][];
+        for (int i = 0; i < this.chords.length; i++)
+            this.chords[i] = SyntheticInput.randomChord(random);
+    }
+
+    private int[] nextFrame() {
+        var frame = this.frames[this.frame];
+        this.frame = (this.frame + 1) % this.frames.length;
+        return frame;
+    }
+
+    @Benchmark
+    public void updateBindings() {
+        SyntheticInput.press(this.nextFrame());
+        InputManager.updateBindings(this.client);
+        InputManager.updateStates();
+    }
+
+    @Benchmark
+    public void getBindingState(Blackhole blackhole) {
+        SyntheticInput.press(this.nextFrame());
+        for (var binding : this.bindings)
+            blackhole.consume(InputManager.getBindingState(binding));
+    }
+
+    @Benchmark
+    public void areButtonsEquivalent(Blackhole blackhole) {
+        for (var binding : this.bindings) {
+            var buttons = binding.getButton();
+            for (var chord : this.chords)
+                blackhole.consume(InputManager.areButtonsEquivalent(buttons, chord));
+        }
+    }
+
+    @Benchmark
+    public void hasDuplicatedBindings(Blackhole blackhole) {
+        for (var binding : this.bindings)
+            blackhole.consume(InputManager.hasDuplicatedBindings(binding));
+    }
+
+    @Benchmark
+    public void hasDuplicatedBindingsAfterRebind(Blackhole blackhole) {
+        // Rebinding a button invalidates the chord index, which is the case while editing the controls.
+        var binding = this.bindings[this.frame];
+        binding.setButton(this.nextFrame());
+        blackhole.consume(InputManager.hasDuplicatedBindings(binding));
+    }
+}
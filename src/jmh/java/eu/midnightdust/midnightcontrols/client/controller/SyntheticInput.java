@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import eu.midnightdust.midnightcontrols.client.ButtonState;
+import net.minecraft.client.MinecraftClient;
+import org.aperlambda.lambdacommon.utils.function.Predicates;
+import org.jetbrains.annotations.NotNull;
+import org.objenesis.ObjenesisStd;
+
+import java.util.*;
+
+/**
+ * Represents the synthetic controller input used by the benchmarks.
+ * <p>
+ * Benchmarks run outside of a game instance: the client is allocated without running its constructor,
+ * so it has no screen and no player, and the built-in bindings are unbound as their actions need a running game.
+ */
+public final class SyntheticInput {
+    private static final int[] BUTTONS;
+    private static final long SEED = 0x6d63L;
+
+    static {
+        var buttons = new ArrayList<Integer>();
+        for (int i = 0; i < GamepadState.BUTTON_COUNT; i++)
+            buttons.add(i);
+        for (int i = 0; i < GamepadState.AXIS_COUNT; i++) {
+            buttons.add(ButtonBinding.axisAsButton(i, true));
+            buttons.add(ButtonBinding.axisAsButton(i, false));
+        }
+        BUTTONS = buttons.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private SyntheticInput() {
+        throw new UnsupportedOperationException("SyntheticInput only contains static definitions.");
+    }
+
+    /**
+     * Allocates a client instance without initializing it.
+     *
+     * @return the client instance
+     */
+    public static @NotNull MinecraftClient allocateClient() {
+        return new ObjenesisStd().newInstance(MinecraftClient.class);
+    }
+
+    /**
+     * Fills the binding registry up to the specified size with synthetic bindings of one to three buttons.
+     *
+     * @param size the size of the binding table
+     * @return the registered bindings
+     */
+    public static @NotNull List<ButtonBinding> fillBindings(int size) {
+        // Loads the built-in bindings, then unbinds them.
+        Objects.requireNonNull(ButtonBinding.ATTACK);
+        InputManager.streamBindings().forEach(binding -> binding.setButton(new int[]{-1}));
+
+        var random = new Random(SEED);
+        int index = (int) InputManager.streamBindings().count();
+        while (index < size) {
+            InputManager.registerBinding(new ButtonBinding("benchmark." + index, randomChord(random), Collections.emptyList(),
+                    Predicates.pairAlwaysTrue(), random.nextBoolean()));
+            index++;
+        }
+        InputManager.sortBindings();
+        return InputManager.streamBindings().toList();
+    }
+
+    /**
+     * Generates a random chord of one to three distinct buttons.
+     *
+     * @param random the random number generator
+     * @return the chord
+     */
+    public static int[] randomChord(@NotNull Random random) {
+        int length = 1 + (random.nextInt(10) < 7 ? 0 : random.nextInt(2) + 1);
+        var chord = new int[length];
+        Arrays.fill(chord, -1);
+        for (int i = 0; i < length; i++) {
+            int button;
+            do {
+                button = BUTTONS[random.nextInt(BUTTONS.length)];
+            } while (InputManager.containsButton(chord, button));
+            chord[i] = button;
+        }
+        return chord;
+    }
+
+    /**
+     * Creates a gamepad state.
+     *
+     * @param buttons the bitmask of the buttons which are down
+     * @param axes the axis values
+     * @return the gamepad state
+     */
+    public static @NotNull GamepadState gamepadState(int buttons, float... axes) {
+        var state = new GamepadState();
+        state.swap();
+        state.clear();
+        for (int i = 0; i < GamepadState.BUTTON_COUNT; i++)
+            state.setButton(i, (buttons & (1 << i)) != 0);
+        for (int i = 0; i < axes.length && i < GamepadState.AXIS_COUNT; i++)
+            state.setAxis(i, axes[i]);
+        return state;
+    }
+
+    /**
+     * Presses the specified buttons in the button state table and releases every other button.
+     *
+     * @param pressed the pressed buttons
+     */
+    public static void press(int... pressed) {
+        for (int button : BUTTONS) {
+            boolean wasPressed = InputManager.STATES.get(button).isPressed();
+            if (InputManager.containsButton(pressed, button))
+                InputManager.STATES.put(button, wasPressed ? ButtonState.REPEAT : ButtonState.PRESS);
+            else
+                InputManager.STATES.put(button, wasPressed ? ButtonState.RELEASE : ButtonState.NONE);
+        }
+    }
+}
@@ -22,12 +22,23 @@ public enum ButtonState {
     RELEASE(2),
     REPEAT(3);
 
+    private static final ButtonState[] BY_ID = new ButtonState[]{NONE, PRESS, RELEASE, REPEAT};
     public final int id;
 
     ButtonState(int id) {
         this.id = id;
     }
 
+    /**
+     * Gets the button state from its identifier.
+     *
+     * @param id the identifier of the state
+     * @return the button state
+     */
+    public static ButtonState byId(int id) {
+        return BY_ID[id];
+    }
+
     /**
      * Returns whether this state is a pressed state.
      *
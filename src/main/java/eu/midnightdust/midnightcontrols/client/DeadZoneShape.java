@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+import org.aperlambda.lambdacommon.utils.Nameable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the shape of the dead zone of an analog stick.
+ * <p>
+ * An axial dead zone applies to each axis on its own, a radial dead zone applies to the distance of the stick from its center.
+ */
+public enum DeadZoneShape implements Nameable {
+    AXIAL,
+    RADIAL;
+
+    private final Text text;
+
+    DeadZoneShape() {
+        this.text = new TranslatableText(this.getTranslationKey());
+    }
+
+    /**
+     * Returns the next dead zone shape available.
+     *
+     * @return the next available dead zone shape
+     */
+    public @NotNull DeadZoneShape next() {
+        var v = values();
+        if (v.length == this.ordinal() + 1)
+            return v[0];
+        return v[this.ordinal() + 1];
+    }
+
+    /**
+     * Returns the translation key of this dead zone shape.
+     *
+     * @return the translation key of this dead zone shape
+     */
+    public @NotNull String getTranslationKey() {
+        return "midnightcontrols.dead_zone_shape." + this.getName();
+    }
+
+    /**
+     * Gets the translated text of this dead zone shape.
+     *
+     * @return the translated text of this dead zone shape
+     */
+    public @NotNull Text getTranslatedText() {
+        return this.text;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return this.name().toLowerCase();
+    }
+}
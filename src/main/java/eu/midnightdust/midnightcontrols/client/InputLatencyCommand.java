@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.profiler.InputLatency;
+import eu.midnightdust.midnightcontrols.client.profiler.LatencyHistogram;
+import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
+import net.minecraft.text.LiteralText;
+import net.minecraft.text.TranslatableText;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import static net.fabricmc.fabric.api.client.command.v1.ClientCommandManager.literal;
+
+/**
+ * Represents the client command which reports the input latencies.
+ * <p>
+ * {@code /midnightcontrols latency [reset]}.
+ *
+ * @see InputLatency
+ */
+public final class InputLatencyCommand {
+    private InputLatencyCommand() {
+        throw new UnsupportedOperationException("InputLatencyCommand only contains static definitions.");
+    }
+
+    public static void register(@NotNull CommandDispatcher<FabricClientCommandSource> dispatcher) {
+        dispatcher.register(literal("midnightcontrols")
+                .then(literal("latency")
+                        .executes(InputLatencyCommand::report)
+                        .then(literal("reset").executes(ctx -> {
+                            InputLatency.reset();
+                            ctx.getSource().sendFeedback(new TranslatableText("midnightcontrols.latency.reset"));
+                            return 1;
+                        }))));
+    }
+
+    private static int report(CommandContext<FabricClientCommandSource> ctx) {
+        if (!InputLatency.isEnabled()) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.latency.disabled"));
+            return 0;
+        }
+        var latencies = InputLatency.getLatencies();
+        if (latencies.isEmpty()) {
+            ctx.getSource().sendFeedback(new TranslatableText("midnightcontrols.latency.empty"));
+            return 0;
+        }
+
+        latencies.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(ButtonBinding::getName)))
+                .forEach(entry -> ctx.getSource().sendFeedback(new LiteralText(entry.getKey().getName()
+                        + ": resolve " + format(entry.getValue().getResolveLatency())
+                        + ", key " + format(entry.getValue().getKeyBindingLatency()))));
+        return latencies.size();
+    }
+
+    private static String format(@NotNull LatencyHistogram histogram) {
+        if (histogram.getCount() == 0)
+            return "-";
+        return String.format("n=%d p50=%.1fµs p99=%.1fµs max=%.1fµs", histogram.getCount(),
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMax() / 1000.0);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.fabricmc.fabric.api.client.command.v1.FabricClientCommandSource;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.command.CommandSource;
+import net.minecraft.text.TranslatableText;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+import static net.fabricmc.fabric.api.client.command.v1.ClientCommandManager.argument;
+import static net.fabricmc.fabric.api.client.command.v1.ClientCommandManager.literal;
+
+/**
+ * Represents the client command which records and replays the controller input.
+ * <p>
+ * {@code /midnightcontrols record start|stop} and {@code /midnightcontrols replay <recording>|stop}.
+ */
+public final class InputRecordingCommand {
+    public static final Path RECORDINGS_DIRECTORY = FabricLoader.getInstance().getGameDir().resolve("midnightcontrols").resolve("recordings").normalize();
+    private static final String EXTENSION = ".mcinput";
+    private static final DateTimeFormatter NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+
+    private InputRecordingCommand() {
+        throw new UnsupportedOperationException("InputRecordingCommand only contains static definitions.");
+    }
+
+    public static void register(@NotNull CommandDispatcher<FabricClientCommandSource> dispatcher) {
+        dispatcher.register(literal("midnightcontrols")
+                .then(literal("record")
+                        .then(literal("start").executes(InputRecordingCommand::startRecording))
+                        .then(literal("stop").executes(InputRecordingCommand::stopRecording)))
+                .then(literal("replay")
+                        .then(literal("stop").executes(InputRecordingCommand::stopReplay))
+                        .then(argument("recording", StringArgumentType.string())
+                                .suggests((ctx, builder) -> CommandSource.suggestMatching(listRecordings(), builder))
+                                .executes(InputRecordingCommand::startReplay))));
+    }
+
+    private static int startRecording(CommandContext<FabricClientCommandSource> ctx) {
+        var input = MidnightControlsClient.get().input;
+        if (input.isReplaying()) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.recording.replaying"));
+            return 0;
+        }
+        var path = RECORDINGS_DIRECTORY.resolve(NAME_FORMATTER.format(LocalDateTime.now()) + EXTENSION);
+        try {
+            input.startRecording(path);
+        } catch (IOException e) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.recording.error", e.getMessage()));
+            return 0;
+        }
+        ctx.getSource().sendFeedback(new TranslatableText("midnightcontrols.recording.started", path.getFileName().toString()));
+        return 1;
+    }
+
+    private static int stopRecording(CommandContext<FabricClientCommandSource> ctx) {
+        long ticks = MidnightControlsClient.get().input.stopRecording();
+        if (ticks == -1) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.recording.not_recording"));
+            return 0;
+        }
+        ctx.getSource().sendFeedback(new TranslatableText("midnightcontrols.recording.stopped", ticks));
+        return 1;
+    }
+
+    private static int startReplay(CommandContext<FabricClientCommandSource> ctx) {
+        var input = MidnightControlsClient.get().input;
+        var name = StringArgumentType.getString(ctx, "recording");
+        if (!name.endsWith(EXTENSION))
+            name += EXTENSION;
+        if (input.isRecording()) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.replay.recording"));
+            return 0;
+        }
+        var path = RECORDINGS_DIRECTORY.resolve(name).normalize();
+        // Only the recordings directory can be replayed from.
+        if (name.contains("/") || name.contains("\\") || !RECORDINGS_DIRECTORY.equals(path.getParent())) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.replay.invalid_name", name));
+            return 0;
+        }
+        try {
+            input.startReplay(path);
+        } catch (IOException e) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.recording.error", e.getMessage()));
+            return 0;
+        }
+        ctx.getSource().sendFeedback(new TranslatableText("midnightcontrols.replay.started", name));
+        return 1;
+    }
+
+    private static int stopReplay(CommandContext<FabricClientCommandSource> ctx) {
+        long ticks = MidnightControlsClient.get().input.stopReplay();
+        if (ticks == -1) {
+            ctx.getSource().sendError(new TranslatableText("midnightcontrols.replay.not_replaying"));
+            return 0;
+        }
+        ctx.getSource().sendFeedback(new TranslatableText("midnightcontrols.replay.stopped", ticks));
+        return 1;
+    }
+
+    private static Stream<String> listRecordings() {
+        if (!Files.isDirectory(RECORDINGS_DIRECTORY))
+            return Stream.empty();
+        try (var files = Files.list(RECORDINGS_DIRECTORY)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(EXTENSION))
+                    .map(name -> name.substring(0, name.length() - EXTENSION.length()))
+                    .sorted()
+                    .toList()
+                    .stream();
+        } catch (IOException e) {
+            return Stream.empty();
+        }
+    }
+}
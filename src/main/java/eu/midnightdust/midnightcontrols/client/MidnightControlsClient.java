@@ -18,21 +18,26 @@ import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.controller.Controller;
 import eu.midnightdust.midnightcontrols.client.controller.InputManager;
+import eu.midnightdust.midnightcontrols.client.gui.ControllerGlyphAtlas;
+import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsDebugHud;
 import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsHud;
 import eu.midnightdust.midnightcontrols.client.gui.TouchscreenOverlay;
 import eu.midnightdust.midnightcontrols.client.ring.KeyBindingRingAction;
 import eu.midnightdust.midnightcontrols.client.ring.MidnightRing;
 import dev.lambdaurora.spruceui.hud.HudManager;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.command.v1.ClientCommandManager;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayNetworkHandler;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.toast.SystemToast;
 import net.minecraft.client.util.InputUtil;
+import net.minecraft.resource.ResourceType;
 import net.minecraft.text.LiteralText;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Identifier;
@@ -58,6 +63,8 @@ public class MidnightControlsClient extends MidnightControls implements ClientMo
             InputUtil.Type.KEYSYM, GLFW.GLFW_KEY_KP_2, "key.categories.movement");
     public static final KeyBinding BINDING_LOOK_LEFT = InputManager.makeKeyBinding(new Identifier(MidnightControlsConstants.NAMESPACE, "look_left"),
             InputUtil.Type.KEYSYM, GLFW.GLFW_KEY_KP_4, "key.categories.movement");
+    public static final KeyBinding BINDING_DEBUG_OVERLAY = InputManager.makeKeyBinding(new Identifier(MidnightControlsConstants.NAMESPACE, "debug_overlay"),
+            InputUtil.Type.KEYSYM, GLFW.GLFW_KEY_UNKNOWN, "key.categories.misc");
     /*public static final KeyBinding           BINDING_RING       = InputManager.makeKeyBinding(new Identifier(midnightcontrolsConstants.NAMESPACE, "ring"),
             InputUtil.Type.MOUSE, GLFW.GLFW_MOUSE_BUTTON_5, "key.categories.misc");*/
     public static final Identifier CONTROLLER_BUTTONS = new Identifier(MidnightControlsConstants.NAMESPACE, "textures/gui/controller_buttons.png");
@@ -69,6 +76,7 @@ public class MidnightControlsClient extends MidnightControls implements ClientMo
     public final MidnightRing ring = new MidnightRing(this);
     public final MidnightReacharound reacharound = new MidnightReacharound();
     private MidnightControlsHud hud;
+    private MidnightControlsDebugHud debugHud;
     private ControlsMode previousControlsMode;
 
     @Override
@@ -78,9 +86,12 @@ public class MidnightControlsClient extends MidnightControls implements ClientMo
         KeyBindingHelper.registerKeyBinding(BINDING_LOOK_RIGHT);
         KeyBindingHelper.registerKeyBinding(BINDING_LOOK_DOWN);
         KeyBindingHelper.registerKeyBinding(BINDING_LOOK_LEFT);
+        KeyBindingHelper.registerKeyBinding(BINDING_DEBUG_OVERLAY);
         //KeyBindingHelper.registerKeyBinding(BINDING_RING);
 
         this.ring.registerAction("keybinding", KeyBindingRingAction.FACTORY);
+        InputRecordingCommand.register(ClientCommandManager.DISPATCHER);
+        InputLatencyCommand.register(ClientCommandManager.DISPATCHER);
 
         ClientPlayNetworking.registerGlobalReceiver(CONTROLS_MODE_CHANNEL, (client, handler, buf, responseSender) -> {
             responseSender.sendPacket(CONTROLS_MODE_CHANNEL, this.makeControlsModeBuffer(MidnightControlsConfig.controlsMode));
@@ -113,7 +124,11 @@ public class MidnightControlsClient extends MidnightControls implements ClientMo
             //}
         });
 
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new ControllerGlyphAtlas());
+
         HudManager.register(this.hud = new MidnightControlsHud(this));
+        HudManager.register(this.debugHud = new MidnightControlsDebugHud());
+        this.debugHud.setVisible(false);
     }
 
     /**
@@ -124,12 +139,12 @@ public class MidnightControlsClient extends MidnightControls implements ClientMo
         MidnightControlsConfig.load();
         this.hud.setVisible(MidnightControlsConfig.hudEnable);
         Controller.updateMappings();
-        GLFW.glfwSetJoystickCallback((jid, event) -> {
-            if (event == GLFW.GLFW_CONNECTED) {
+        Controller.setConnectionCallback((jid, connected) -> {
+            if (connected) {
                 var controller = Controller.byId(jid);
                 client.getToastManager().add(new SystemToast(SystemToast.Type.TUTORIAL_HINT, new TranslatableText("midnightcontrols.controller.connected", jid),
                         new LiteralText(controller.getName())));
-            } else if (event == GLFW.GLFW_DISCONNECTED) {
+            } else {
                 client.getToastManager().add(new SystemToast(SystemToast.Type.TUTORIAL_HINT, new TranslatableText("midnightcontrols.controller.disconnected", jid),
                         null));
             }
@@ -146,6 +161,8 @@ public class MidnightControlsClient extends MidnightControls implements ClientMo
      * @param client the client instance
      */
     public void onTick(@NotNull MinecraftClient client) {
+        while (BINDING_DEBUG_OVERLAY.wasPressed())
+            this.debugHud.toggle();
         this.input.tick(client);
         if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER && (client.isWindowFocused() || MidnightControlsConfig.unfocusedInput))
             this.input.tickController(client);
@@ -156,6 +173,7 @@ public class MidnightControlsClient extends MidnightControls implements ClientMo
     }
 
     public void onRender(MinecraftClient client) {
+        this.input.pollController(client);
         this.input.onRender(client.getTickDelta(), client);
     }
 
@@ -11,6 +11,7 @@ package eu.midnightdust.midnightcontrols.client;
 
 import eu.midnightdust.lib.config.MidnightConfig;
 import eu.midnightdust.midnightcontrols.ControlsMode;
+import eu.midnightdust.midnightcontrols.client.controller.AnalogResponse;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.controller.Controller;
 import eu.midnightdust.midnightcontrols.client.controller.InputManager;
@@ -49,12 +50,29 @@ public class MidnightControlsConfig extends MidnightConfig {
     //private static final double DEFAULT_DEAD_ZONE = 0.25;
     @Entry public static double rightDeadZone = 0.25;
     @Entry public static double leftDeadZone = 0.25;
+    @Entry public static DeadZoneShape rightDeadZoneShape = DeadZoneShape.AXIAL;
+    @Entry public static DeadZoneShape leftDeadZoneShape = DeadZoneShape.AXIAL;
+    @Entry public static double rightOuterDeadZone = 0.0;
+    @Entry public static double leftOuterDeadZone = 0.0;
+    @Entry public static double rightAntiDeadZone = 0.0;
+    @Entry public static double leftAntiDeadZone = 0.0;
+    @Entry public static ResponseCurve rightResponseCurve = ResponseCurve.LINEAR;
+    @Entry public static ResponseCurve leftResponseCurve = ResponseCurve.LINEAR;
+    @Entry public static double rightCurveExponent = 2.0;
+    @Entry public static double leftCurveExponent = 2.0;
+    @Entry public static String rightCurvePoints = ""; // x:y pairs separated by commas.
+    @Entry public static String leftCurvePoints = "";
     @Entry public static boolean invertRightYAxis = false;
     @Entry public static boolean invertRightXAxis = false;
     @Entry public static double DEFAULT_MAX_VALUE = 1;
     @Entry public static double rotationSpeed = 40.0;
     @Entry public static double mouseSpeed = 25.0;
     @Entry public static boolean unfocusedInput = false;
+    @Entry public static int pollingRate = 0; // Hz, 0 disables sub-tick sampling.
+    @Entry public static boolean frameRateCamera = false;
+    @Entry public static boolean cameraSmoothing = false;
+    @Entry public static double cameraSmoothingMinCutoff = 1.0; // Hz
+    @Entry public static double cameraSmoothingBeta = 0.5;
     @Entry public static boolean virtualMouse = false;
     @Entry public static VirtualMouseSkin virtualMouseSkin = VirtualMouseSkin.DEFAULT_LIGHT;
 //    @Entry public static List<Pages> ringPages = new ArrayList<String>();
@@ -66,6 +84,13 @@ public class MidnightControlsConfig extends MidnightConfig {
     @Entry public static Object secondControllerID = -1;
     @Entry public static Map<String, String> BINDINGS = Map.of();
 
+    // Resolved controllers cache.
+    private static Object cachedControllerId = null;
+    private static Controller cachedController = null;
+    private static Object cachedSecondControllerId = null;
+    private static Optional<Controller> cachedSecondController = Optional.empty();
+    private static int cachedGeneration = -1;
+
     private static final Pattern BUTTON_BINDING_PATTERN = Pattern.compile("(-?\\d+)\\+?");
     // Gameplay.
     // Controller settings
@@ -79,6 +104,7 @@ public class MidnightControlsConfig extends MidnightConfig {
         MidnightControlsClient.get().log("Configuration loaded.");
         // Controller controls.
         InputManager.loadButtonBindings();
+        AnalogResponse.rebuild();
         //this.mod.ring.load(this.config);
     }
 
@@ -87,6 +113,7 @@ public class MidnightControlsConfig extends MidnightConfig {
      */
     public static void save() {
         MidnightControlsConfig.write("midnightcontrols");
+        AnalogResponse.rebuild();
         MidnightControlsClient.get().log("Configuration saved.");
     }
     /**
@@ -96,6 +123,15 @@ public class MidnightControlsConfig extends MidnightConfig {
      */
     public static Controller getController() {
         var raw = MidnightControlsConfig.controllerID;
+        if (cachedController == null || raw != cachedControllerId || cachedGeneration != Controller.getGeneration()) {
+            validateControllerCache();
+            cachedController = resolveController(raw);
+            cachedControllerId = raw;
+        }
+        return cachedController;
+    }
+
+    private static Controller resolveController(Object raw) {
         if (raw instanceof Number) {
             return Controller.byId(((Number) raw).intValue());
         } else if (raw instanceof String) {
@@ -121,6 +157,24 @@ public class MidnightControlsConfig extends MidnightConfig {
      */
     public static Optional<Controller> getSecondController() {
         var raw = MidnightControlsConfig.secondControllerID;
+        if (raw != cachedSecondControllerId || cachedGeneration != Controller.getGeneration()) {
+            validateControllerCache();
+            cachedSecondController = resolveSecondController(raw);
+            cachedSecondControllerId = raw;
+        }
+        return cachedSecondController;
+    }
+
+    private static void validateControllerCache() {
+        // The GUID lookups depend on the connected controllers, so both resolutions are outdated on invalidation.
+        if (cachedGeneration != Controller.getGeneration()) {
+            cachedController = null;
+            cachedSecondControllerId = null;
+            cachedGeneration = Controller.getGeneration();
+        }
+    }
+
+    private static Optional<Controller> resolveSecondController(Object raw) {
         if (raw instanceof Number) {
             if (((Number) raw).intValue() == -1)
                 return Optional.empty();
@@ -10,16 +10,29 @@
 package eu.midnightdust.midnightcontrols.client;
 
 import com.google.common.collect.ImmutableSet;
+import eu.midnightdust.midnightcontrols.ControlsMode;
 import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
+import eu.midnightdust.midnightcontrols.client.controller.AnalogResponse;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.controller.ButtonCooldowns;
 import eu.midnightdust.midnightcontrols.client.controller.Controller;
+import eu.midnightdust.midnightcontrols.client.controller.GamepadState;
 import eu.midnightdust.midnightcontrols.client.controller.InputManager;
+import eu.midnightdust.midnightcontrols.client.controller.InputRecorder;
+import eu.midnightdust.midnightcontrols.client.controller.InputReplay;
+import eu.midnightdust.midnightcontrols.client.controller.InputSampler;
+import eu.midnightdust.midnightcontrols.client.controller.OneEuroFilter;
 import eu.midnightdust.midnightcontrols.client.gui.TouchscreenOverlay;
 import eu.midnightdust.midnightcontrols.client.gui.widget.ControllerControlsWidget;
 import eu.midnightdust.midnightcontrols.client.mixin.AdvancementsScreenAccessor;
 import eu.midnightdust.midnightcontrols.client.mixin.CreativeInventoryScreenAccessor;
 import eu.midnightdust.midnightcontrols.client.mixin.EntryListWidgetAccessor;
+import eu.midnightdust.midnightcontrols.client.profiler.ControllerPollEvent;
+import eu.midnightdust.midnightcontrols.client.profiler.InputLatency;
+import eu.midnightdust.midnightcontrols.client.profiler.StateUpdateEvent;
+import eu.midnightdust.midnightcontrols.client.profiler.TickProfiler;
 import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.HoveredSlotCache;
 import eu.midnightdust.midnightcontrols.client.util.MouseAccessor;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
 import dev.lambdaurora.spruceui.screen.SpruceScreen;
@@ -43,20 +56,18 @@ import net.minecraft.client.gui.widget.AlwaysSelectedEntryListWidget;
 import net.minecraft.client.gui.widget.EntryListWidget;
 import net.minecraft.client.gui.widget.PressableWidget;
 import net.minecraft.client.gui.widget.SliderWidget;
+import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
 import net.minecraft.text.TranslatableText;
 import net.minecraft.util.math.MathHelper;
-import org.aperlambda.lambdacommon.utils.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWGamepadState;
 
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.io.IOException;
+import java.nio.file.Path;
 
 import static org.lwjgl.glfw.GLFW.*;
 
@@ -68,7 +79,14 @@ import static org.lwjgl.glfw.GLFW.*;
  * @since 1.0.0
  */
 public class MidnightInput {
-    private static final Map<Integer, Integer> BUTTON_COOLDOWNS = new HashMap<>();
+    // Whether the screens of a class can be navigated without the cursor, before the per-instance checks.
+    private static final ClassValue<Boolean> INTERACTIVE_SCREENS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !(AdvancementsScreen.class.isAssignableFrom(type) || HandledScreen.class.isAssignableFrom(type)
+                    || PackScreen.class.isAssignableFrom(type));
+        }
+    };
     // Cooldowns
     private int actionGuiCooldown = 0;
     private boolean ignoreNextARelease = false;
@@ -81,6 +99,20 @@ public class MidnightInput {
     private float mouseSpeedX = 0.f;
     private float mouseSpeedY = 0.f;
     private int inventoryInteractionCooldown = 0;
+    // Sub-tick sampling
+    private final InputSampler sampler = new InputSampler();
+    private final InputSampler secondSampler = new InputSampler();
+    private boolean sampling = false;
+    private long lastPollTime = 0L;
+    private long skippedTicks = 0L;
+    // Frame rate camera.
+    private final GLFWGamepadState cameraSample = GLFWGamepadState.create();
+    private long lastCameraFrame = 0L;
+    private final OneEuroFilter cameraFilterX = new OneEuroFilter();
+    private final OneEuroFilter cameraFilterY = new OneEuroFilter();
+    // Recording and replay
+    private InputRecorder recorder = null;
+    private InputReplay replay = null;
 
     private ControllerControlsWidget controlsInput = null;
 
@@ -116,37 +148,75 @@ public class MidnightInput {
      * @param client the client instance
      */
     public void tickController(@NotNull MinecraftClient client) {
-        BUTTON_COOLDOWNS.entrySet().stream().filter(entry -> entry.getValue() > 0)
-                .forEach(entry -> BUTTON_COOLDOWNS.put(entry.getKey(), entry.getValue() - 1));
+        TickProfiler.beginTick();
+        InputManager.COOLDOWNS.tick();
         // Decreases the cooldown for GUI actions.
         if (this.actionGuiCooldown > 0)
             --this.actionGuiCooldown;
 
-        InputManager.updateStates();
+        boolean sampled = this.sampling;
+        GamepadState state = null;
+        GamepadState joyconState = null;
+        long profile = TickProfiler.begin();
+        var pollEvent = new ControllerPollEvent();
+        pollEvent.begin();
+        if (this.replay != null && !this.replay.nextTick())
+            this.stopReplay();
+
+        if (this.replay != null) {
+            state = this.replay.getState();
+            joyconState = this.replay.getSecondState();
+        } else {
+            var controller = MidnightControlsConfig.getController();
+            if (controller.isConnected())
+                state = this.readState(controller, this.sampler, sampled, false);
+            var joycon = MidnightControlsConfig.getSecondController().orElse(null);
+            if (joycon != null && joycon.isConnected())
+                joyconState = this.readState(joycon, this.secondSampler, sampled, true);
+
+            if (this.recorder != null && !this.recorder.tick(state != null, joyconState != null, sampled))
+                this.recorder = null;
+        }
+        if (pollEvent.shouldCommit()) {
+            pollEvent.controllers = (state != null ? 1 : 0) + (joyconState != null ? 1 : 0);
+            pollEvent.commit();
+        }
+        TickProfiler.end(TickProfiler.POLL, profile);
 
-        var controller = MidnightControlsConfig.getController();
-        if (controller.isConnected()) {
-            var state = controller.getState();
-            this.fetchButtonInput(client, state, false);
-            this.fetchAxeInput(client, state, false);
-        }
-        MidnightControlsConfig.getSecondController().filter(Controller::isConnected)
-                .ifPresent(joycon -> {
-                    GLFWGamepadState state = joycon.getState();
-                    this.fetchButtonInput(client, state, true);
-                    this.fetchAxeInput(client, state, true);
-                });
+        // Nothing changed since the last tick and nothing is held, the whole pipeline would be a no-op.
+        if (this.isIdle(state) && this.isIdle(joyconState) && InputManager.isIdle()) {
+            this.skippedTicks++;
+        } else {
+            profile = TickProfiler.begin();
+            var updateEvent = new StateUpdateEvent();
+            updateEvent.begin();
+            InputManager.updateStates();
+
+            if (state != null) {
+                this.fetchButtonInput(client, state, false);
+                this.fetchAxeInput(client, state, false);
+            }
+            if (joyconState != null) {
+                this.fetchButtonInput(client, joyconState, true);
+                this.fetchAxeInput(client, joyconState, true);
+            }
+            if (updateEvent.shouldCommit()) {
+                updateEvent.pressedButtons = Long.bitCount(InputManager.STATES.getPressedMask());
+                updateEvent.commit();
+            }
+            TickProfiler.end(TickProfiler.STATE_UPDATE, profile);
 
-        boolean allowInput = true;
+            boolean allowInput = true;
 
-        if (this.controlsInput != null && this.controlsInput.focusedBinding != null)
-            allowInput = false;
+            if (this.controlsInput != null && this.controlsInput.focusedBinding != null)
+                allowInput = false;
 
-        if (allowInput)
-            InputManager.updateBindings(client);
+            if (allowInput)
+                InputManager.updateBindings(client);
+        }
 
         if (this.controlsInput != null
-                && InputManager.STATES.int2ObjectEntrySet().parallelStream().map(Map.Entry::getValue).allMatch(ButtonState::isUnpressed)) {
+                && InputManager.STATES.isAllUnpressed()) {
             if (this.controlsInput.focusedBinding != null && !this.controlsInput.waiting) {
                 int[] buttons = new int[this.controlsInput.currentButtons.size()];
                 for (int i = 0; i < this.controlsInput.currentButtons.size(); i++)
@@ -158,6 +228,158 @@ public class MidnightInput {
 
         if (this.inventoryInteractionCooldown > 0)
             this.inventoryInteractionCooldown--;
+        TickProfiler.endTick();
+    }
+
+    private @NotNull GamepadState readState(@NotNull Controller controller, @NotNull InputSampler sampler, boolean sampled, boolean second) {
+        if (sampled) {
+            if (sampler.sample(controller) && this.recorder != null
+                    && !(second ? this.recorder.recordSecond(sampler) : this.recorder.recordPrimary(sampler)))
+                this.recorder = null;
+            return sampler.coalesce();
+        }
+
+        var state = controller.getState();
+        if (this.recorder != null && !(second ? this.recorder.recordSecond(state) : this.recorder.recordPrimary(state)))
+            this.recorder = null;
+        return state;
+    }
+
+    /**
+     * Returns whether the specified gamepad state is idle: it did not change since the last poll and every stick rests in its dead zone.
+     *
+     * @param state the gamepad state, may be null if the controller is not connected
+     * @return true if the state is idle, else false
+     */
+    private boolean isIdle(@Nullable GamepadState state) {
+        if (state == null)
+            return true;
+        if (state.hasChanged())
+            return false;
+        // Triggers are ignored as they rest at -1 and are never used continuously.
+        for (int axis = GLFW_GAMEPAD_AXIS_LEFT_X; axis <= GLFW_GAMEPAD_AXIS_RIGHT_Y; axis++) {
+            if (AnalogResponse.process(state, axis) > 0.f)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the count of controller ticks which were skipped as the input was idle.
+     *
+     * @return the count of skipped ticks
+     */
+    public long getSkippedTicks() {
+        return this.skippedTicks;
+    }
+
+    /**
+     * This method is called every frame to sample the controllers between two ticks.
+     * <p>
+     * GLFW joysticks may only be queried from the main thread, so samples are taken at most at the configured polling rate
+     * while frames are rendered and coalesced on the next tick.
+     *
+     * @param client the client instance
+     */
+    public void pollController(@NotNull MinecraftClient client) {
+        if (MidnightControlsConfig.pollingRate <= 0 || MidnightControlsConfig.controlsMode != ControlsMode.CONTROLLER
+                || !(client.isWindowFocused() || MidnightControlsConfig.unfocusedInput) || this.replay != null) {
+            this.sampling = false;
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (!this.sampling) {
+            this.sampler.reset();
+            this.secondSampler.reset();
+            this.sampling = true;
+        } else if (now - this.lastPollTime < 1_000_000_000L / MidnightControlsConfig.pollingRate) {
+            return;
+        }
+        this.lastPollTime = now;
+
+        var event = new ControllerPollEvent();
+        event.begin();
+        var controller = MidnightControlsConfig.getController();
+        if (controller.isConnected() && this.sampler.sample(controller) && this.recorder != null
+                && !this.recorder.recordPrimary(this.sampler))
+            this.recorder = null;
+        var joycon = MidnightControlsConfig.getSecondController().filter(Controller::isConnected).orElse(null);
+        if (joycon != null && this.secondSampler.sample(joycon) && this.recorder != null
+                && !this.recorder.recordSecond(this.secondSampler))
+            this.recorder = null;
+        if (event.shouldCommit()) {
+            event.controllers = (controller.isConnected() ? 1 : 0) + (joycon != null ? 1 : 0);
+            event.sampled = true;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts recording the raw controller samples to the specified file.
+     *
+     * @param path the path of the recording
+     * @throws IOException if the recording cannot be created
+     */
+    public void startRecording(@NotNull Path path) throws IOException {
+        this.stopRecording();
+        this.recorder = InputRecorder.open(path);
+    }
+
+    /**
+     * Stops the current recording.
+     *
+     * @return the count of recorded ticks, or {@code -1} if nothing was recorded
+     */
+    public long stopRecording() {
+        if (this.recorder == null)
+            return -1;
+        long ticks = this.recorder.getTicks();
+        try {
+            this.recorder.close();
+        } catch (IOException e) {
+            MidnightControlsClient.get().warn("Failed to close the input recording " + this.recorder.getPath() + ": " + e.getMessage());
+        }
+        this.recorder = null;
+        return ticks;
+    }
+
+    public boolean isRecording() {
+        return this.recorder != null;
+    }
+
+    /**
+     * Starts replaying the specified recording instead of reading the controllers.
+     *
+     * @param path the path of the recording
+     * @throws IOException if the recording cannot be read
+     */
+    public void startReplay(@NotNull Path path) throws IOException {
+        this.stopReplay();
+        this.replay = InputReplay.open(path);
+        this.sampling = false;
+    }
+
+    /**
+     * Stops the current replay.
+     *
+     * @return the count of replayed ticks, or {@code -1} if nothing was replayed
+     */
+    public long stopReplay() {
+        if (this.replay == null)
+            return -1;
+        long ticks = this.replay.getTicks();
+        try {
+            this.replay.close();
+        } catch (IOException e) {
+            MidnightControlsClient.get().warn("Failed to close the input replay " + this.replay.getPath() + ": " + e.getMessage());
+        }
+        this.replay = null;
+        return ticks;
+    }
+
+    public boolean isReplaying() {
+        return this.replay != null;
     }
 
     /**
@@ -185,6 +407,11 @@ public class MidnightInput {
         if (player == null)
             return;
 
+        if (this.isFrameRateCameraActive(client))
+            this.updateFrameRateCamera(client, player);
+        else
+            this.lastCameraFrame = 0L;
+
         if (this.targetYaw != 0.f || this.targetPitch != 0.f) {
             float rotationYaw = (float) (player.prevYaw + (this.targetYaw / 0.10) * tickDelta);
             float rotationPitch = (float) (player.prevPitch + (this.targetPitch / 0.10) * tickDelta);
@@ -197,6 +424,72 @@ public class MidnightInput {
         }
     }
 
+    /**
+     * Returns whether the camera is rotated from the right stick on every frame instead of on every tick.
+     * <p>
+     * The tick-based rotation is used while replaying an input recording, as the recorded sticks are only known per tick.
+     *
+     * @param client the client instance
+     * @return true if the frame rate camera is active, else false
+     */
+    private boolean isFrameRateCameraActive(@NotNull MinecraftClient client) {
+        return MidnightControlsConfig.frameRateCamera && MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER
+                && client.currentScreen == null && this.replay == null
+                && (client.isWindowFocused() || MidnightControlsConfig.unfocusedInput)
+                && MidnightControlsConfig.getController().isGamepad();
+    }
+
+    /**
+     * Rotates the camera from the right stick, integrated over the real time elapsed since the last frame.
+     * <p>
+     * The rotation rate matches the tick-based rotation of {@link #handleLook(MinecraftClient, int, float, int)}.
+     *
+     * @param client the client instance
+     * @param player the player
+     */
+    private void updateFrameRateCamera(@NotNull MinecraftClient client, @NotNull ClientPlayerEntity player) {
+        long now = System.nanoTime();
+        // Clamped to a tick so the camera does not jump after a freeze.
+        double delta = this.lastCameraFrame == 0L ? 0.0 : Math.min((now - this.lastCameraFrame) / 1_000_000_000.0, 0.05);
+        this.lastCameraFrame = now;
+        if (delta == 0.0 || !Controller.getBackend().getGamepadState(MidnightControlsConfig.getController().id(), this.cameraSample))
+            return;
+
+        // Degrees per second at full tilt, the tick-based rotation turns by 0.11 * rotationSpeed over a tenth of a tick.
+        double speed = MidnightControlsConfig.rotationSpeed * 0.11 * 10.0 * 20.0;
+        double yaw = MidnightControlsConfig.getRightXAxisSign() * speed * this.getCameraAxis(GLFW_GAMEPAD_AXIS_RIGHT_X) * delta;
+        double pitch = MidnightControlsConfig.getRightYAxisSign() * speed * this.getCameraAxis(GLFW_GAMEPAD_AXIS_RIGHT_Y) * delta;
+        if (yaw == 0.0 && pitch == 0.0)
+            return;
+
+        // The mouse look direction change is scaled by 0.15.
+        client.getTutorialManager().onUpdateMouse(yaw, pitch);
+        player.changeLookDirection(yaw / 0.15, pitch / 0.15);
+    }
+
+    private double getCameraAxis(int axis) {
+        float value = this.cameraSample.axes(axis);
+        float absValue = AnalogResponse.process(axis, value, this.cameraSample.axes(axis ^ 1));
+        float filtered = this.smoothCamera(axis, Math.copySign(absValue, value));
+        return Math.copySign(filtered * filtered, filtered);
+    }
+
+    /**
+     * Smooths the processed value of the specified right stick axis if the camera smoothing is enabled.
+     *
+     * @param axis the axis
+     * @param value the processed value, signed
+     * @return the smoothed value
+     */
+    private float smoothCamera(int axis, float value) {
+        var filter = axis == GLFW_GAMEPAD_AXIS_RIGHT_X ? this.cameraFilterX : this.cameraFilterY;
+        if (!MidnightControlsConfig.cameraSmoothing) {
+            filter.reset();
+            return value;
+        }
+        return filter.filter(value, System.nanoTime(), MidnightControlsConfig.cameraSmoothingMinCutoff, MidnightControlsConfig.cameraSmoothingBeta);
+    }
+
     /**
      * This method is called when a Screen is opened.
      *
@@ -223,23 +516,24 @@ public class MidnightInput {
         }
     }
 
-    private void fetchButtonInput(@NotNull MinecraftClient client, @NotNull GLFWGamepadState gamepadState, boolean leftJoycon) {
-        var buffer = gamepadState.buttons();
-        for (int i = 0; i < buffer.limit(); i++) {
+    void fetchButtonInput(@NotNull MinecraftClient client, @NotNull GamepadState gamepadState, boolean leftJoycon) {
+        for (int i = 0; i < gamepadState.getButtonCount(); i++) {
             int btn = leftJoycon ? ButtonBinding.controller2Button(i) : i;
-            boolean btnState = buffer.get() == (byte) 1;
+            boolean btnState = gamepadState.isButtonDown(i);
             var state = ButtonState.NONE;
-            var previousState = InputManager.STATES.getOrDefault(btn, ButtonState.NONE);
+            var previousState = InputManager.STATES.get(btn);
 
             if (btnState != previousState.isPressed()) {
                 state = btnState ? ButtonState.PRESS : ButtonState.RELEASE;
+                if (btnState && InputLatency.isEnabled())
+                    InputLatency.onEdge(btn);
                 this.handleButton(client, btn, btnState ? 0 : 1, btnState);
                 if (btnState)
-                    BUTTON_COOLDOWNS.put(btn, 5);
+                    InputManager.COOLDOWNS.start(btn, ButtonCooldowns.DEFAULT_LENGTH);
             } else if (btnState) {
                 state = ButtonState.REPEAT;
-                if (BUTTON_COOLDOWNS.getOrDefault(btn, 0) == 0) {
-                    BUTTON_COOLDOWNS.put(btn, 5);
+                if (InputManager.COOLDOWNS.isReady(btn)) {
+                    InputManager.COOLDOWNS.start(btn, ButtonCooldowns.DEFAULT_LENGTH);
                     this.handleButton(client, btn, 2, true);
                 }
             }
@@ -248,18 +542,18 @@ public class MidnightInput {
         }
     }
 
-    private void fetchAxeInput(@NotNull MinecraftClient client, @NotNull GLFWGamepadState gamepadState, boolean leftJoycon) {
-        var buffer = gamepadState.axes();
-        for (int i = 0; i < buffer.limit(); i++) {
+    void fetchAxeInput(@NotNull MinecraftClient client, @NotNull GamepadState gamepadState, boolean leftJoycon) {
+        for (int i = 0; i < gamepadState.getAxisCount(); i++) {
             int axis = leftJoycon ? ButtonBinding.controller2Button(i) : i;
-            float value = buffer.get();
+            float value = gamepadState.getAxis(i);
             float absValue = Math.abs(value);
+            float response = AnalogResponse.process(gamepadState, i);
 
             if (i == GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y)
                 value *= -1.0F;
 
-            int state = value > MidnightControlsConfig.rightDeadZone ? 1 : (value < -MidnightControlsConfig.rightDeadZone ? 2 : 0);
-            this.handleAxe(client, axis, value, absValue, state);
+            int state = response > 0.f ? (value > 0.f ? 1 : 2) : 0;
+            this.handleAxe(client, axis, value, absValue, response, state);
         }
     }
 
@@ -361,12 +655,11 @@ public class MidnightInput {
             return true;
         }
 
-        double x = client.mouse.getX() * (double) client.getWindow().getScaledWidth() / (double) client.getWindow().getWidth();
-        double y = client.mouse.getY() * (double) client.getWindow().getScaledHeight() / (double) client.getWindow().getHeight();
-
         var screen = (HandledScreen) client.currentScreen;
         var accessor = (HandledScreenAccessor) screen;
-        Slot slot = ((HandledScreenAccessor) client.currentScreen).midnightcontrols$getSlotAt(x, y);
+        Slot slot = HoveredSlotCache.getSlot(client);
+        double x = HoveredSlotCache.getMouseX();
+        double y = HoveredSlotCache.getMouseY();
 
         int slotId;
         if (slot == null) {
@@ -421,12 +714,7 @@ public class MidnightInput {
                 });
     }
 
-    private double getDeadZoneValue(int axis) {
-        return (axis == GLFW_GAMEPAD_AXIS_LEFT_X || axis == GLFW_GAMEPAD_AXIS_LEFT_Y) ? MidnightControlsConfig.leftDeadZone
-                : MidnightControlsConfig.rightDeadZone;
-    }
-
-    private void handleAxe(@NotNull MinecraftClient client, int axis, float value, float absValue, int state) {
+    private void handleAxe(@NotNull MinecraftClient client, int axis, float value, float absValue, float response, int state) {
         int asButtonState = value > .5f ? 1 : (value < -.5f ? 2 : 0);
 
         if (axis == GLFW_GAMEPAD_AXIS_LEFT_TRIGGER || axis == GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER
@@ -438,48 +726,50 @@ public class MidnightInput {
         {
             boolean currentPlusState = asButtonState == 1;
             boolean currentMinusState = asButtonState == 2;
-            var previousPlusState = InputManager.STATES.getOrDefault(ButtonBinding.axisAsButton(axis, true), ButtonState.NONE);
-            var previousMinusState = InputManager.STATES.getOrDefault(ButtonBinding.axisAsButton(axis, false), ButtonState.NONE);
+            var previousPlusState = InputManager.STATES.get(ButtonBinding.axisAsButton(axis, true));
+            var previousMinusState = InputManager.STATES.get(ButtonBinding.axisAsButton(axis, false));
 
             if (currentPlusState != previousPlusState.isPressed()) {
                 InputManager.STATES.put(ButtonBinding.axisAsButton(axis, true), currentPlusState ? ButtonState.PRESS : ButtonState.RELEASE);
-                if (currentPlusState)
-                    BUTTON_COOLDOWNS.put(ButtonBinding.axisAsButton(axis, true), 5);
+                if (currentPlusState) {
+                    InputManager.COOLDOWNS.start(ButtonBinding.axisAsButton(axis, true), ButtonCooldowns.DEFAULT_LENGTH);
+                    if (InputLatency.isEnabled())
+                        InputLatency.onEdge(ButtonBinding.axisAsButton(axis, true));
+                }
             } else if (currentPlusState) {
                 InputManager.STATES.put(ButtonBinding.axisAsButton(axis, true), ButtonState.REPEAT);
-                if (BUTTON_COOLDOWNS.getOrDefault(ButtonBinding.axisAsButton(axis, true), 0) == 0) {
-                    BUTTON_COOLDOWNS.put(ButtonBinding.axisAsButton(axis, true), 5);
+                if (InputManager.COOLDOWNS.isReady(ButtonBinding.axisAsButton(axis, true))) {
+                    InputManager.COOLDOWNS.start(ButtonBinding.axisAsButton(axis, true), ButtonCooldowns.DEFAULT_LENGTH);
                 }
             }
 
             if (currentMinusState != previousMinusState.isPressed()) {
                 InputManager.STATES.put(ButtonBinding.axisAsButton(axis, false), currentMinusState ? ButtonState.PRESS : ButtonState.RELEASE);
-                if (currentMinusState)
-                    BUTTON_COOLDOWNS.put(ButtonBinding.axisAsButton(axis, false), 5);
+                if (currentMinusState) {
+                    InputManager.COOLDOWNS.start(ButtonBinding.axisAsButton(axis, false), ButtonCooldowns.DEFAULT_LENGTH);
+                    if (InputLatency.isEnabled())
+                        InputLatency.onEdge(ButtonBinding.axisAsButton(axis, false));
+                }
             } else if (currentMinusState) {
                 InputManager.STATES.put(ButtonBinding.axisAsButton(axis, false), ButtonState.REPEAT);
-                if (BUTTON_COOLDOWNS.getOrDefault(ButtonBinding.axisAsButton(axis, false), 0) == 0) {
-                    BUTTON_COOLDOWNS.put(ButtonBinding.axisAsButton(axis, false), 5);
+                if (InputManager.COOLDOWNS.isReady(ButtonBinding.axisAsButton(axis, false))) {
+                    InputManager.COOLDOWNS.start(ButtonBinding.axisAsButton(axis, false), ButtonCooldowns.DEFAULT_LENGTH);
                 }
             }
 
-            double deadZone = this.getDeadZoneValue(axis);
-            float axisValue = absValue < deadZone ? 0.f : (float) (absValue - deadZone);
-            axisValue /= (1.0 - deadZone);
-
-            axisValue = (float) Math.min(axisValue / MidnightControlsConfig.getAxisMaxValue(axis), 1);
+            float axisValue = response;
+            if (TickProfiler.isEnabled())
+                TickProfiler.onAxis(axis, Math.copySign(axisValue, value));
             if (currentPlusState)
-                InputManager.BUTTON_VALUES.put(ButtonBinding.axisAsButton(axis, true), axisValue);
+                InputManager.STATES.putValue(ButtonBinding.axisAsButton(axis, true), axisValue);
             else
-                InputManager.BUTTON_VALUES.put(ButtonBinding.axisAsButton(axis, true), 0.f);
+                InputManager.STATES.putValue(ButtonBinding.axisAsButton(axis, true), 0.f);
             if (currentMinusState)
-                InputManager.BUTTON_VALUES.put(ButtonBinding.axisAsButton(axis, false), axisValue);
+                InputManager.STATES.putValue(ButtonBinding.axisAsButton(axis, false), axisValue);
             else
-                InputManager.BUTTON_VALUES.put(ButtonBinding.axisAsButton(axis, false), 0.f);
+                InputManager.STATES.putValue(ButtonBinding.axisAsButton(axis, false), 0.f);
         }
 
-        double deadZone = this.getDeadZoneValue(axis);
-
         if (this.controlsInput != null && this.controlsInput.focusedBinding != null) {
             if (asButtonState != 0 && !this.controlsInput.currentButtons.contains(ButtonBinding.axisAsButton(axis, asButtonState == 1))) {
 
@@ -497,7 +787,7 @@ public class MidnightInput {
             if (axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) {
                 var accessor = (CreativeInventoryScreenAccessor) creativeInventoryScreen;
                 // @TODO allow rebinding to left stick
-                if (accessor.midnightcontrols$hasScrollbar() && absValue >= deadZone) {
+                if (accessor.midnightcontrols$hasScrollbar() && response > 0.f) {
                     creativeInventoryScreen.mouseScrolled(0.0, 0.0, -value);
                 }
                 return;
@@ -505,7 +795,7 @@ public class MidnightInput {
         } else if (client.currentScreen instanceof AdvancementsScreen advancementsScreen) {
             if (axis == GLFW_GAMEPAD_AXIS_RIGHT_X || axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) {
                 var accessor = (AdvancementsScreenAccessor) advancementsScreen;
-                if (absValue >= deadZone) {
+                if (response > 0.f) {
                     AdvancementTab tab = accessor.getSelectedTab();
                     tab.move(axis == GLFW_GAMEPAD_AXIS_RIGHT_X ? -value * 5.0 : 0.0, axis == GLFW_GAMEPAD_AXIS_RIGHT_Y ? -value * 5.0 : 0.0);
                 }
@@ -513,12 +803,17 @@ public class MidnightInput {
             }
         }
 
-        absValue -= deadZone;
-        absValue /= (1.0 - deadZone);
-        absValue = (float) MathHelper.clamp(absValue / MidnightControlsConfig.getAxisMaxValue(axis), 0.f, 1.f);
+        absValue = response;
         if (client.currentScreen == null) {
-            // Handles the look direction.
-            this.handleLook(client, axis, absValue, state);
+            // Handles the look direction, unless the camera is rotated on every frame.
+            if (!this.isFrameRateCameraActive(client)) {
+                if (axis == GLFW_GAMEPAD_AXIS_RIGHT_X || axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) {
+                    float filtered = this.smoothCamera(axis, state == 2 ? -absValue : (state == 1 ? absValue : 0.f));
+                    absValue = Math.abs(filtered);
+                    state = filtered > 0.f ? 1 : (filtered < 0.f ? 2 : 0);
+                }
+                this.handleLook(client, axis, absValue, state);
+            }
         } else {
             boolean allowMouseControl = true;
 
@@ -554,7 +849,8 @@ public class MidnightInput {
                     Updates the target mouse position when the initial movement stick movement is detected.
                     It prevents the cursor to jump to the old target mouse position if the user moves the cursor with the mouse.
                  */
-                    if (Math.abs(prevXAxis) < deadZone && Math.abs(prevYAxis) < deadZone) {
+                    // The previous movement comes from the analog response, it is only non-zero past the dead zone.
+                    if (prevXAxis == 0.f && prevYAxis == 0.f) {
                         InputManager.INPUT_MANAGER.resetMouseTarget(client);
                     }
 
@@ -703,9 +999,9 @@ public class MidnightInput {
     }
 
     public static boolean isScreenInteractive(@NotNull Screen screen) {
-        return !(screen instanceof AdvancementsScreen || screen instanceof HandledScreen || screen instanceof PackScreen
-                || (screen instanceof SpruceScreen && ((SpruceScreen) screen).requiresCursor())
-                || MidnightControlsCompat.requireMouseOnScreen(screen));
+        return INTERACTIVE_SCREENS.get(screen.getClass())
+                && !(screen instanceof SpruceScreen spruceScreen && spruceScreen.requiresCursor())
+                && !MidnightControlsCompat.requireMouseOnScreen(screen);
     }
 
     // Inspired from https://github.com/MrCrayfish/Controllable/blob/1.14.X/src/main/java/com/mrcrayfish/controllable/client/ControllerInput.java#L686.
@@ -719,19 +1015,9 @@ public class MidnightInput {
             int mouseY = (int) (targetMouseY * (double) client.getWindow().getScaledHeight() / (double) client.getWindow().getHeight());
 
             // Finds the closest slot in the GUI within 14 pixels.
-            Optional<Pair<Slot, Double>> closestSlot = inventoryScreen.getScreenHandler().slots.parallelStream()
-                    .map(slot -> {
-                        int x = guiLeft + slot.x + 8;
-                        int y = guiTop + slot.y + 8;
-
-                        // Distance between the slot and the cursor.
-                        double distance = Math.sqrt(Math.pow(x - mouseX, 2) + Math.pow(y - mouseY, 2));
-                        return Pair.of(slot, distance);
-                    }).filter(entry -> entry.value <= 14.0)
-                    .min(Comparator.comparingDouble(p -> p.value));
-
-            if (closestSlot.isPresent()) {
-                var slot = closestSlot.get().key;
+            var slot = accessor.midnightcontrols$getSlotGrid().getNearest(mouseX - guiLeft, mouseY - guiTop, 14);
+
+            if (slot != null) {
                 if (slot.hasStack() || !client.player.getInventory().getMainHandStack().isEmpty()) {
                     int slotCenterXScaled = guiLeft + slot.x + 8;
                     int slotCenterYScaled = guiTop + slot.y + 8;
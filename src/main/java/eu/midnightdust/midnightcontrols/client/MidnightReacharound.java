@@ -10,6 +10,7 @@
 package eu.midnightdust.midnightcontrols.client;
 
 import eu.midnightdust.midnightcontrols.MidnightControlsFeature;
+import eu.midnightdust.midnightcontrols.client.profiler.ReacharoundTickEvent;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.FluidBlock;
@@ -39,11 +40,18 @@ public class MidnightReacharound {
     private boolean onSlab = false;
 
     public void tick(@NotNull MinecraftClient client) {
+        var event = new ReacharoundTickEvent();
+        event.begin();
         this.lastReacharoundResult = this.tryVerticalReachAround(client);
         if (this.lastReacharoundResult == null) {
             this.lastReacharoundResult = this.tryHorizontalReachAround(client);
             this.lastReacharoundVertical = false;
         } else this.lastReacharoundVertical = true;
+        if (event.shouldCommit()) {
+            event.found = this.lastReacharoundResult != null;
+            event.vertical = this.lastReacharoundVertical;
+            event.commit();
+        }
     }
 
     /**
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client;
+
+import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
+import org.aperlambda.lambdacommon.utils.Nameable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the response curve of an analog stick, which maps the stick deflection outside the dead zones to the output value.
+ */
+public enum ResponseCurve implements Nameable {
+    LINEAR,
+    POWER,
+    S_CURVE,
+    CUSTOM;
+
+    private final Text text;
+
+    ResponseCurve() {
+        this.text = new TranslatableText(this.getTranslationKey());
+    }
+
+    /**
+     * Returns the next response curve available.
+     *
+     * @return the next available response curve
+     */
+    public @NotNull ResponseCurve next() {
+        var v = values();
+        if (v.length == this.ordinal() + 1)
+            return v[0];
+        return v[this.ordinal() + 1];
+    }
+
+    /**
+     * Returns the translation key of this response curve.
+     *
+     * @return the translation key of this response curve
+     */
+    public @NotNull String getTranslationKey() {
+        return "midnightcontrols.response_curve." + this.getName();
+    }
+
+    /**
+     * Gets the translated text of this response curve.
+     *
+     * @return the translated text of this response curve
+     */
+    public @NotNull Text getTranslatedText() {
+        return this.text;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return this.name().toLowerCase();
+    }
+}
@@ -18,6 +18,8 @@ import net.minecraft.util.hit.BlockHitResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 /**
  * Represents a compatibility handler for a mod.
  *
@@ -38,11 +40,25 @@ public interface CompatHandler {
      *
      * @param screen the screen
      * @return true if the mouse is required on the specified screen, else false
+     * @deprecated the answer cannot be cached, use {@link #requireMouseOnScreen(Class)} instead
      */
+    @Deprecated
     default boolean requireMouseOnScreen(Screen screen) {
         return false;
     }
 
+    /**
+     * Returns whether the mouse is required on the screens of the specified class.
+     * <p>
+     * The answer is cached per screen class, it must not depend on the state of the screens.
+     *
+     * @param screenClass the screen class
+     * @return true if the mouse is required on the screens of the specified class, else false
+     */
+    default boolean requireMouseOnScreen(@NotNull Class<? extends Screen> screenClass) {
+        return false;
+    }
+
     /**
      * Returns a slot at the specified location if possible.
      *
@@ -100,7 +116,27 @@ public interface CompatHandler {
         return false;
     }
 
+    /**
+     * Adds action tips to the tip strip of the specified handled screen.
+     * <p>
+     * The tips are collected when the screen is initialized, not on every frame.
+     *
+     * @param screen the screen
+     * @param tips the tips of the screen
+     */
+    default void addInventoryTips(@NotNull HandledScreen<?> screen, @NotNull List<InventoryTip> tips) {
+    }
+
     record SlotPos(int x, int y) {
         public static final SlotPos INVALID_SLOT = new SlotPos(-1, -1);
     }
+
+    /**
+     * Represents an action tip of the handled screens.
+     *
+     * @param buttons the buttons of the action
+     * @param action the translation key of the action
+     */
+    record InventoryTip(int[] buttons, @NotNull String action) {
+    }
 }
@@ -35,7 +35,7 @@ public class HQMCompat implements CompatHandler {
     }
 
     @Override
-    public boolean requireMouseOnScreen(Screen screen) {
-        return this.guiBaseClass.map(clazz -> clazz.isInstance(screen)).orElse(false);
+    public boolean requireMouseOnScreen(@NotNull Class<? extends Screen> screenClass) {
+        return this.guiBaseClass.map(clazz -> clazz.isAssignableFrom(screenClass)).orElse(false);
     }
 }
@@ -14,6 +14,7 @@ import eu.midnightdust.midnightcontrols.client.controller.InputManager;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.util.hit.BlockHitResult;
 import org.aperlambda.lambdacommon.utils.LambdaReflection;
 import org.jetbrains.annotations.NotNull;
@@ -32,6 +33,9 @@ import java.util.stream.Stream;
  */
 public class MidnightControlsCompat {
     private static final List<CompatHandler> HANDLERS = new ArrayList<>();
+    // Handlers which still override the per-instance screen check, which cannot be cached.
+    private static final List<CompatHandler> SCREEN_INSTANCE_HANDLERS = new ArrayList<>();
+    private static ClassValue<Boolean> mouseScreens = createMouseScreens();
 
     /**
      * Initializes compatibility with other mods if needed.
@@ -41,22 +45,56 @@ public class MidnightControlsCompat {
     public static void init(@NotNull MidnightControlsClient mod) {
         if (FabricLoader.getInstance().isModLoaded("okzoomer")) {
             mod.log("Adding okzoomer compatibility...");
-            HANDLERS.add(new OkZoomerCompat());
+            addHandler(new OkZoomerCompat());
         }
         /*if (isReiPresent()) {
             mod.log("Adding REI compatiblity...");
-            HANDLERS.add(new ReiCompat());
+            addHandler(new ReiCompat());
         }*/
         if (FabricLoader.getInstance().isModLoaded("hardcorequesting") && LambdaReflection.doesClassExist(HQMCompat.GUI_BASE_CLASS_PATH)) {
             mod.log("Adding HQM compatibility...");
-            HANDLERS.add(new HQMCompat());
+            addHandler(new HQMCompat());
         }
         if (FabricLoader.getInstance().isModLoaded("emotecraft")) {
             mod.log("Adding Emotecraft compatibility...");
-            HANDLERS.add(new EmotecraftCompat());
+            addHandler(new EmotecraftCompat());
         }
         HANDLERS.forEach(handler -> handler.handle(mod));
-        InputManager.loadButtonBindings();
+        // The handlers may only know their screen classes once handled.
+        mouseScreens = createMouseScreens();
+        InputManager.loadNewButtonBindings();
+    }
+
+    private static void addHandler(@NotNull CompatHandler handler) {
+        HANDLERS.add(handler);
+        if (overridesScreenInstanceCheck(handler))
+            SCREEN_INSTANCE_HANDLERS.add(handler);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static boolean overridesScreenInstanceCheck(@NotNull CompatHandler handler) {
+        try {
+            return handler.getClass().getMethod("requireMouseOnScreen", Screen.class).getDeclaringClass() != CompatHandler.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ClassValue<Boolean> createMouseScreens() {
+        return new ClassValue<>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                if (!Screen.class.isAssignableFrom(type))
+                    return false;
+                var screenClass = (Class<? extends Screen>) type;
+                for (var handler : HANDLERS) {
+                    if (handler.requireMouseOnScreen(screenClass))
+                        return true;
+                }
+                return false;
+            }
+        };
     }
 
     /**
@@ -65,7 +103,8 @@ public class MidnightControlsCompat {
      * @param handler the compatibility handler to register
      */
     public static void registerCompatHandler(@NotNull CompatHandler handler) {
-        HANDLERS.add(handler);
+        addHandler(handler);
+        mouseScreens = createMouseScreens();
     }
 
     /**
@@ -79,12 +118,21 @@ public class MidnightControlsCompat {
 
     /**
      * Returns whether the mouse is required on the specified screen.
+     * <p>
+     * The answer of the handlers is cached per screen class.
      *
      * @param screen the screen
      * @return true if the mouse is requried on the specified screen, else false
      */
+    @SuppressWarnings("deprecation")
     public static boolean requireMouseOnScreen(Screen screen) {
-        return HANDLERS.stream().anyMatch(handler -> handler.requireMouseOnScreen(screen));
+        if (mouseScreens.get(screen.getClass()))
+            return true;
+        for (var handler : SCREEN_INSTANCE_HANDLERS) {
+            if (handler.requireMouseOnScreen(screen))
+                return true;
+        }
+        return false;
     }
 
     /**
@@ -153,6 +201,17 @@ public class MidnightControlsCompat {
         return false;
     }
 
+    /**
+     * Adds the action tips of the compatibility handlers to the tip strip of the specified handled screen.
+     *
+     * @param screen the screen
+     * @param tips the tips of the screen
+     */
+    public static void addInventoryTips(@NotNull HandledScreen<?> screen, @NotNull List<CompatHandler.InventoryTip> tips) {
+        for (var handler : HANDLERS)
+            handler.addInventoryTips(screen, tips);
+    }
+
     /**
      * Returns whether Roughly Enough Items is present.
      *
@@ -90,8 +90,8 @@ public class ReiCompat implements CompatHandler {
     }
 
     @Override
-    public boolean requireMouseOnScreen(Screen screen) {
-        return isViewingScreen(screen) /*|| screen instanceof PreRecipeViewingScreen*/;
+    public boolean requireMouseOnScreen(@NotNull Class<? extends Screen> screenClass) {
+        return isViewingScreen(screenClass) /*|| PreRecipeViewingScreen.class.isAssignableFrom(screenClass)*/;
     }
 
     @Override
@@ -144,6 +144,11 @@ public class ReiCompat implements CompatHandler {
         //return screen instanceof DefaultDisplayViewingScreen || screen instanceof CompositeDisplayViewingScreen;
     }
 
+    private static boolean isViewingScreen(Class<? extends Screen> screenClass) {
+        return true;
+        //return DefaultDisplayViewingScreen.class.isAssignableFrom(screenClass) || CompositeDisplayViewingScreen.class.isAssignableFrom(screenClass);
+    }
+
     @Override
     public boolean handleMenuBack(@NotNull MinecraftClient client, @NotNull Screen screen) {
         if (!isViewingScreen(screen))
@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import eu.midnightdust.midnightcontrols.client.DeadZoneShape;
+import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.ResponseCurve;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.Arrays;
+
+/**
+ * Represents the response of an analog axis: the dead zones, the maximum value and the response curve,
+ * precomputed into a lookup table from the absolute axis value to the output value between {@code 0} and {@code 1}.
+ * <p>
+ * The tables are rebuilt with {@link #rebuild()} when the configuration changes, so processing a sample is a table read.
+ */
+public final class AnalogResponse {
+    private static final int RESOLUTION = 256;
+    private static final AnalogResponse[] AXES = new AnalogResponse[GamepadState.AXIS_COUNT];
+    // Responses to the stick distance from its center, used by radial dead zones.
+    private static final AnalogResponse[] STICKS = new AnalogResponse[2];
+    private static final boolean[] RADIAL = new boolean[2];
+    private static final float[] MAX_VALUES = new float[GamepadState.AXIS_COUNT];
+    private final float[] table = new float[RESOLUTION + 1];
+    private final float deadZone;
+
+    static {
+        rebuild();
+    }
+
+    private AnalogResponse(double deadZone, double outerDeadZone, double antiDeadZone, double maxValue,
+                           @NotNull ResponseCurve curve, double exponent, float[] points) {
+        this.deadZone = (float) deadZone;
+        // The table covers the range above the dead zone, so the dead zone edge does not depend on the table resolution.
+        double range = Math.max(1.0 - deadZone - outerDeadZone, 1e-3);
+        for (int i = 0; i <= RESOLUTION; i++) {
+            double value = deadZone + (1.0 - deadZone) * i / RESOLUTION;
+            double t = Math.min((value - deadZone) / range / maxValue, 1.0);
+            this.table[i] = (float) (antiDeadZone + (1.0 - antiDeadZone) * applyCurve(curve, exponent, points, t));
+        }
+    }
+
+    private static double applyCurve(@NotNull ResponseCurve curve, double exponent, float[] points, double t) {
+        return switch (curve) {
+            case LINEAR -> t;
+            case POWER -> Math.pow(t, exponent);
+            case S_CURVE -> t < .5 ? Math.pow(2.0 * t, exponent) / 2.0 : 1.0 - Math.pow(2.0 * (1.0 - t), exponent) / 2.0;
+            case CUSTOM -> {
+                // Piecewise linear between (0, 0), the points, and (1, 1).
+                double previousX = 0.0;
+                double previousY = 0.0;
+                for (int i = 0; i <= points.length; i += 2) {
+                    double x = i < points.length ? points[i] : 1.0;
+                    double y = i < points.length ? points[i + 1] : 1.0;
+                    if (t <= x)
+                        yield x == previousX ? y : previousY + (y - previousY) * (t - previousX) / (x - previousX);
+                    previousX = x;
+                    previousY = y;
+                }
+                yield 1.0;
+            }
+        };
+    }
+
+    /**
+     * Gets the output value for the specified absolute axis value.
+     *
+     * @param value the absolute axis value
+     * @return the output value
+     */
+    public float apply(float value) {
+        value = Math.min(value, 1.f);
+        if (value <= this.deadZone)
+            return 0.f;
+        float position = (value - this.deadZone) / (1.f - this.deadZone) * RESOLUTION;
+        int index = (int) position;
+        if (index >= RESOLUTION)
+            return this.table[RESOLUTION];
+        return this.table[index] + (this.table[index + 1] - this.table[index]) * (position - index);
+    }
+
+    /**
+     * Processes the specified axis value.
+     *
+     * @param axis the axis
+     * @param value the axis value
+     * @param other the value of the other axis of the same stick, used by radial dead zones
+     * @return the absolute output value between {@code 0} and {@code 1}
+     */
+    public static float process(int axis, float value, float other) {
+        if (axis < 0 || axis >= GamepadState.AXIS_COUNT)
+            return 0.f;
+        float absValue = Math.abs(value);
+        int stick = axis >> 1;
+        if (stick < STICKS.length && RADIAL[stick]) {
+            float distance = (float) Math.sqrt(value * value + other * other);
+            if (distance == 0.f)
+                return 0.f;
+            return Math.min(absValue / distance * STICKS[stick].apply(distance) / MAX_VALUES[axis], 1.f);
+        }
+        return AXES[axis].apply(absValue);
+    }
+
+    /**
+     * Processes the specified axis of the gamepad state.
+     *
+     * @param state the gamepad state
+     * @param axis the axis
+     * @return the absolute output value between {@code 0} and {@code 1}
+     */
+    public static float process(@NotNull GamepadState state, int axis) {
+        return process(axis, state.getAxis(axis), axis < GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER ? state.getAxis(axis ^ 1) : 0.f);
+    }
+
+    /**
+     * Rebuilds the lookup tables from the configuration.
+     */
+    public static void rebuild() {
+        for (int axis = 0; axis < GamepadState.AXIS_COUNT; axis++) {
+            MAX_VALUES[axis] = (float) MidnightControlsConfig.getAxisMaxValue(axis);
+            if (axis >= GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER) {
+                // Triggers only have the dead zone.
+                AXES[axis] = new AnalogResponse(MidnightControlsConfig.rightDeadZone, 0.0, 0.0, MAX_VALUES[axis],
+                        ResponseCurve.LINEAR, 1.0, new float[0]);
+            } else {
+                AXES[axis] = build(axis >> 1, MAX_VALUES[axis]);
+            }
+        }
+        for (int stick = 0; stick < STICKS.length; stick++) {
+            STICKS[stick] = build(stick, 1.0);
+            RADIAL[stick] = (stick == 0 ? MidnightControlsConfig.leftDeadZoneShape : MidnightControlsConfig.rightDeadZoneShape) == DeadZoneShape.RADIAL;
+        }
+    }
+
+    private static @NotNull AnalogResponse build(int stick, double maxValue) {
+        boolean left = stick == 0;
+        var curve = left ? MidnightControlsConfig.leftResponseCurve : MidnightControlsConfig.rightResponseCurve;
+        var points = curve == ResponseCurve.CUSTOM
+                ? parsePoints(left ? MidnightControlsConfig.leftCurvePoints : MidnightControlsConfig.rightCurvePoints)
+                : new float[0];
+        return new AnalogResponse(left ? MidnightControlsConfig.leftDeadZone : MidnightControlsConfig.rightDeadZone,
+                left ? MidnightControlsConfig.leftOuterDeadZone : MidnightControlsConfig.rightOuterDeadZone,
+                left ? MidnightControlsConfig.leftAntiDeadZone : MidnightControlsConfig.rightAntiDeadZone,
+                maxValue, curve,
+                left ? MidnightControlsConfig.leftCurveExponent : MidnightControlsConfig.rightCurveExponent,
+                points);
+    }
+
+    /**
+     * Parses the points of a custom response curve, written as {@code x:y} pairs separated by commas.
+     *
+     * @param points the points
+     * @return the coordinates of the points sorted by x
+     */
+    private static float[] parsePoints(@NotNull String points) {
+        if (points.isBlank())
+            return new float[0];
+        var pairs = points.split(",");
+        var parsed = new float[pairs.length][];
+        try {
+            for (int i = 0; i < pairs.length; i++) {
+                var pair = pairs[i].split(":");
+                if (pair.length != 2)
+                    throw new NumberFormatException("expected x:y, got \"" + pairs[i].trim() + "\"");
+                float x = Float.parseFloat(pair[0].trim());
+                float y = Float.parseFloat(pair[1].trim());
+                if (x < 0.f || x > 1.f || y < 0.f || y > 1.f)
+                    throw new NumberFormatException("coordinates must be between 0 and 1");
+                parsed[i] = new float[]{x, y};
+            }
+        } catch (NumberFormatException e) {
+            var client = MidnightControlsClient.get();
+            if (client != null)
+                client.warn("Invalid response curve points \"" + points + "\": " + e.getMessage() + ", using a linear curve.");
+            return new float[0];
+        }
+        Arrays.sort(parsed, (a, b) -> Float.compare(a[0], b[0]));
+        var result = new float[parsed.length * 2];
+        for (int i = 0; i < parsed.length; i++) {
+            result[i * 2] = parsed[i][0];
+            result[i * 2 + 1] = parsed[i][1];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import eu.midnightdust.midnightcontrols.client.ButtonState;
+import eu.midnightdust.midnightcontrols.client.profiler.ActionDispatchEvent;
+import eu.midnightdust.midnightcontrols.client.profiler.BindingResolutionEvent;
+import eu.midnightdust.midnightcontrols.client.profiler.InputLatency;
+import eu.midnightdust.midnightcontrols.client.profiler.TickProfiler;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the compiled dispatch table of the button bindings.
+ * <p>
+ * Each binding chord is encoded as a bitmask over the dense button index and anchored to its lowest button index.
+ * A tick only evaluates the bindings anchored to a pressed button whose whole chord is pressed,
+ * the bindings which are still pressed from the previous tick and the bindings without any button.
+ * <p>
+ * The table is rebuilt only when the bindings change.
+ */
+final class BindingDispatchTable {
+    private static final int[] EMPTY = new int[0];
+    private ButtonBinding[] bindings = new ButtonBinding[0];
+    private long[] masks = new long[0];
+    private int[][] anchored = new int[ButtonStateTable.SIZE][];
+    private int[] empties = EMPTY;
+    // Per-tick buffers.
+    private int[] candidates = EMPTY;
+    private boolean[] marked = new boolean[0];
+    private int[] pressed = EMPTY;
+    private int pressedCount = 0;
+    private ButtonState[] pendingStates = new ButtonState[0];
+    private float[] pendingValues = new float[0];
+    private boolean dirty = true;
+
+    /**
+     * Marks this table as outdated, it will be rebuilt before the next dispatch.
+     */
+    void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Returns whether a binding may be handled even if no button changes.
+     *
+     * @return true if a binding is held or has no button, else false
+     */
+    boolean hasHeldBindings() {
+        return this.dirty || this.pressedCount != 0 || this.empties.length != 0;
+    }
+
+    /**
+     * Encodes the specified buttons as a bitmask over the dense button index.
+     * Buttons which cannot be indexed are ignored.
+     *
+     * @param buttons the buttons
+     * @return the bitmask
+     */
+    static long maskOf(int[] buttons) {
+        long mask = 0L;
+        for (int button : buttons) {
+            int index = ButtonStateTable.indexOf(button);
+            if (index != -1)
+                mask |= 1L << index;
+        }
+        return mask;
+    }
+
+    private void rebuild(@NotNull List<ButtonBinding> bindings) {
+        int size = bindings.size();
+        this.bindings = bindings.toArray(new ButtonBinding[0]);
+        this.masks = new long[size];
+        this.candidates = new int[size];
+        this.marked = new boolean[size];
+        this.pressed = new int[size];
+        this.pendingStates = new ButtonState[size];
+        this.pendingValues = new float[size];
+
+        var anchored = new IntArrayList[ButtonStateTable.SIZE];
+        var empties = new IntArrayList();
+        this.pressedCount = 0;
+        for (int i = 0; i < size; i++) {
+            var binding = this.bindings[i];
+            var buttons = binding.getButton();
+            long mask = maskOf(buttons);
+            this.masks[i] = mask;
+            // A chord with a button outside the index space can never be pressed.
+            boolean bindable = Arrays.stream(buttons).allMatch(button -> ButtonStateTable.indexOf(button) != -1);
+
+            if (buttons.length == 0) {
+                empties.add(i);
+            } else if (bindable) {
+                int anchor = Long.numberOfTrailingZeros(mask);
+                if (anchored[anchor] == null)
+                    anchored[anchor] = new IntArrayList();
+                anchored[anchor].add(i);
+            }
+
+            if (binding.pressed)
+                this.pressed[this.pressedCount++] = i;
+        }
+
+        for (int i = 0; i < ButtonStateTable.SIZE; i++) {
+            this.anchored[i] = anchored[i] == null ? EMPTY : anchored[i].toIntArray();
+        }
+        this.empties = empties.toIntArray();
+        this.dirty = false;
+    }
+
+    /**
+     * Updates the states of the bindings and handles them.
+     *
+     * @param client the client instance
+     * @param bindings the sorted bindings
+     */
+    void dispatch(@NotNull MinecraftClient client, @NotNull List<ButtonBinding> bindings) {
+        long profile = TickProfiler.begin();
+        var resolutionEvent = new BindingResolutionEvent();
+        resolutionEvent.begin();
+        if (this.dirty)
+            this.rebuild(bindings);
+
+        long active = InputManager.STATES.getPressedMask();
+        int count = 0;
+        for (long bits = active; bits != 0L; bits &= bits - 1) {
+            for (int i : this.anchored[Long.numberOfTrailingZeros(bits)]) {
+                if ((this.masks[i] & ~active) == 0L)
+                    count = this.mark(i, count);
+            }
+        }
+        for (int i : this.empties)
+            count = this.mark(i, count);
+        for (int p = 0; p < this.pressedCount; p++)
+            count = this.mark(this.pressed[p], count);
+        // Keeps the binding priority order.
+        Arrays.sort(this.candidates, 0, count);
+
+        long skip = 0L;
+        this.pressedCount = 0;
+        for (int c = 0; c < count; c++) {
+            int i = this.candidates[c];
+            this.marked[i] = false;
+            var binding = this.bindings[i];
+
+            var state = binding.isAvailable(client) ? InputManager.getBindingState(binding) : ButtonState.NONE;
+            if ((this.masks[i] & skip) != 0L) {
+                if (binding.pressed)
+                    state = ButtonState.RELEASE;
+                else
+                    state = ButtonState.NONE;
+            }
+
+            if (state == ButtonState.RELEASE && !binding.pressed) {
+                state = ButtonState.NONE;
+            }
+
+            if (state == ButtonState.PRESS && InputLatency.isEnabled())
+                InputLatency.onResolve(binding);
+
+            binding.pressed = state.isPressed();
+            if (binding.pressed) {
+                skip |= this.masks[i];
+                this.pressed[this.pressedCount++] = i;
+            }
+
+            this.pendingStates[c] = state;
+            this.pendingValues[c] = InputManager.getBindingValue(binding, state);
+        }
+        if (resolutionEvent.shouldCommit()) {
+            resolutionEvent.bindings = this.bindings.length;
+            resolutionEvent.candidates = count;
+            resolutionEvent.commit();
+        }
+        TickProfiler.end(TickProfiler.BINDING_RESOLUTION, profile);
+
+        profile = TickProfiler.begin();
+        var dispatchEvent = new ActionDispatchEvent();
+        dispatchEvent.begin();
+        int actions = 0;
+        for (int c = 0; c < count; c++) {
+            var state = this.pendingStates[c];
+            this.pendingStates[c] = null;
+            if (state != ButtonState.NONE) {
+                var binding = this.bindings[this.candidates[c]];
+                binding.handle(client, this.pendingValues[c], state);
+                if (TickProfiler.isEnabled())
+                    TickProfiler.onFired(binding);
+                actions++;
+            }
+        }
+        if (dispatchEvent.shouldCommit()) {
+            dispatchEvent.actions = actions;
+            dispatchEvent.commit();
+        }
+        TickProfiler.end(TickProfiler.ACTION_DISPATCH, profile);
+    }
+
+    private int mark(int binding, int count) {
+        if (!this.marked[binding]) {
+            this.marked[binding] = true;
+            this.candidates[count++] = binding;
+        }
+        return count;
+    }
+}
@@ -83,18 +83,22 @@ public class ButtonBinding {
     public static final ButtonBinding USE = new Builder("use").buttons(axisAsButton(GLFW_GAMEPAD_AXIS_LEFT_TRIGGER, true)).register();
 
     private int[] button;
+    private long chordKey;
     private final int[] defaultButton;
+    private final long defaultChordKey;
     private final String key;
     private final Text text;
     private KeyBinding mcKeyBinding = null;
     protected PairPredicate<MinecraftClient, ButtonBinding> filter;
     private final List<PressAction> actions = new ArrayList<>(Collections.singletonList(PressAction.DEFAULT_ACTION));
     private boolean hasCooldown;
-    private int cooldown = 0;
+    private int cooldownLength = ButtonCooldowns.DEFAULT_LENGTH;
+    private int cooldownExpiry = 0;
     boolean pressed = false;
 
     public ButtonBinding(String key, int[] defaultButton, List<PressAction> actions, PairPredicate<MinecraftClient, ButtonBinding> filter, boolean hasCooldown) {
         this.setButton(this.defaultButton = defaultButton);
+        this.defaultChordKey = this.chordKey;
         this.key = key;
         this.text = new TranslatableText(this.key);
         this.filter = filter;
@@ -122,6 +126,7 @@ public class ButtonBinding {
      */
     public void setButton(int[] button) {
         this.button = button;
+        this.chordKey = InputManager.getChordKey(button);
 
         if (InputManager.hasBinding(this))
             InputManager.sortBindings();
@@ -134,9 +139,22 @@ public class ButtonBinding {
      * @return true if the bound button is the specified button, else false
      */
     public boolean isButton(int[] button) {
+        long key = InputManager.getChordKey(button);
+        if (((key | this.chordKey) & InputManager.UNREPRESENTABLE_CHORD) == 0)
+            return key == this.chordKey;
         return InputManager.areButtonsEquivalent(button, this.button);
     }
 
+    /**
+     * Gets the canonical chord key of the bound button.
+     *
+     * @return the chord key
+     * @see InputManager#getChordKey(int[])
+     */
+    public long getChordKey() {
+        return this.chordKey;
+    }
+
     /**
      * Returns whether this button is down or not.
      *
@@ -170,6 +188,8 @@ public class ButtonBinding {
      * @return true if the assigned button is the default button, else false
      */
     public boolean isDefault() {
+        if (((this.chordKey | this.defaultChordKey) & InputManager.UNREPRESENTABLE_CHORD) == 0)
+            return this.chordKey == this.defaultChordKey;
         return this.button.length == this.defaultButton.length && InputManager.areButtonsEquivalent(this.button, this.defaultButton);
     }
 
@@ -204,11 +224,21 @@ public class ButtonBinding {
     }
 
     /**
-     * Updates the button binding cooldown.
+     * Gets the cooldown length of this button binding.
+     *
+     * @return the cooldown length in ticks
+     */
+    public int getCooldownLength() {
+        return this.cooldownLength;
+    }
+
+    /**
+     * Sets the cooldown length of this button binding.
+     *
+     * @param cooldownLength the cooldown length in ticks
      */
-    public void update() {
-        if (this.hasCooldown && this.cooldown > 0)
-            this.cooldown--;
+    public void setCooldownLength(int cooldownLength) {
+        this.cooldownLength = cooldownLength;
     }
 
     /**
@@ -218,10 +248,10 @@ public class ButtonBinding {
      * @param state the state
      */
     public void handle(@NotNull MinecraftClient client, float value, @NotNull ButtonState state) {
-        if (state == ButtonState.REPEAT && this.hasCooldown && this.cooldown != 0)
+        if (state == ButtonState.REPEAT && this.hasCooldown && !InputManager.COOLDOWNS.isExpired(this.cooldownExpiry))
             return;
         if (this.hasCooldown && state.isPressed()) {
-            this.cooldown = 5;
+            this.cooldownExpiry = InputManager.COOLDOWNS.expiryIn(this.cooldownLength);
         }
         for (int i = this.actions.size() - 1; i >= 0; i--) {
             if (this.actions.get(i).press(client, this, value, state))
@@ -412,6 +442,7 @@ public class ButtonBinding {
         private final List<PressAction> actions = new ArrayList<>();
         private PairPredicate<MinecraftClient, ButtonBinding> filter = Predicates.pairAlwaysTrue();
         private boolean cooldown = false;
+        private int cooldownLength = ButtonCooldowns.DEFAULT_LENGTH;
         private ButtonCategory category = null;
         private KeyBinding mcBinding = null;
 
@@ -525,6 +556,17 @@ public class ButtonBinding {
             return this.cooldown(true);
         }
 
+        /**
+         * Puts a cooldown of the specified length on the {@link ButtonBinding}.
+         *
+         * @param length the cooldown length in ticks
+         * @return the builder instance
+         */
+        public Builder cooldown(int length) {
+            this.cooldownLength = length;
+            return this.cooldown(true);
+        }
+
         /**
          * Sets the category of the {@link ButtonBinding}.
          *
@@ -554,6 +596,7 @@ public class ButtonBinding {
          */
         public ButtonBinding build() {
             var binding = new ButtonBinding(this.key, this.buttons, this.actions, this.filter, this.cooldown);
+            binding.setCooldownLength(this.cooldownLength);
             if (this.category != null)
                 this.category.registerBinding(binding);
             if (this.mcBinding != null)
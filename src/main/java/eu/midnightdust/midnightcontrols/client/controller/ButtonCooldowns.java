@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+/**
+ * Represents the button cooldowns.
+ * <p>
+ * Cooldowns are stored as expiry ticks against a global epoch which is advanced once per controller tick,
+ * so cooldowns decay without touching every entry.
+ * Button bindings store their own expiry against the same epoch.
+ */
+public final class ButtonCooldowns {
+    /**
+     * The default cooldown length in ticks.
+     */
+    public static final int DEFAULT_LENGTH = 5;
+    private final int[] expiries = new int[ButtonStateTable.SIZE];
+    private int epoch = 0;
+
+    ButtonCooldowns() {
+    }
+
+    /**
+     * Advances the epoch by one tick.
+     */
+    public void tick() {
+        this.epoch++;
+    }
+
+    /**
+     * Gets the current epoch.
+     *
+     * @return the current epoch in ticks
+     */
+    public int getEpoch() {
+        return this.epoch;
+    }
+
+    /**
+     * Gets the expiry of a cooldown starting now.
+     *
+     * @param length the length of the cooldown in ticks
+     * @return the expiry tick
+     */
+    public int expiryIn(int length) {
+        return this.epoch + length;
+    }
+
+    /**
+     * Returns whether the specified expiry tick has been reached.
+     *
+     * @param expiry the expiry tick
+     * @return true if the cooldown is over, else false
+     */
+    public boolean isExpired(int expiry) {
+        // Overflow-safe comparison.
+        return this.epoch - expiry >= 0;
+    }
+
+    /**
+     * Returns whether the specified button has no running cooldown.
+     *
+     * @param button the button code
+     * @return true if the button has no running cooldown, else false
+     */
+    public boolean isReady(int button) {
+        int index = ButtonStateTable.indexOf(button);
+        return index == -1 || this.isExpired(this.expiries[index]);
+    }
+
+    /**
+     * Starts a cooldown on the specified button.
+     *
+     * @param button the button code
+     * @param length the length of the cooldown in ticks
+     */
+    public void start(int button, int length) {
+        int index = ButtonStateTable.indexOf(button);
+        if (index != -1)
+            this.expiries[index] = this.expiryIn(length);
+    }
+}
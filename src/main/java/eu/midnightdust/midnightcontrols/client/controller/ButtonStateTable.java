@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import eu.midnightdust.midnightcontrols.client.ButtonState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents the states and analog values of every button, indexed by a dense button index.
+ * <p>
+ * Button codes are mapped as follows, the second controller uses the same layout right after the first one:
+ * <ul>
+ *     <li>buttons {@code 0-18} to indices {@code 0-18}</li>
+ *     <li>positive axes {@code 100-105} to indices {@code 19-24}</li>
+ *     <li>negative axes {@code 200-205} to indices {@code 25-30}</li>
+ * </ul>
+ */
+public final class ButtonStateTable {
+    private static final int BUTTONS = 19;
+    private static final int AXES = 6;
+    private static final int CONTROLLER_SIZE = BUTTONS + AXES * 2;
+    /**
+     * The size of the dense button index space.
+     */
+    public static final int SIZE = CONTROLLER_SIZE * 2;
+    private final byte[] states = new byte[SIZE];
+    private final float[] values = new float[SIZE];
+
+    public ButtonStateTable() {
+        Arrays.fill(this.values, 1.f);
+    }
+
+    /**
+     * Gets the dense index of the specified button code.
+     *
+     * @param button the button code
+     * @return the index of the button, or {@code -1} if the button code cannot be indexed
+     */
+    public static int indexOf(int button) {
+        if (button < 0 || button >= 1000)
+            return -1;
+        int offset = 0;
+        if (button >= 500) {
+            button -= 500;
+            offset = CONTROLLER_SIZE;
+        }
+
+        if (button < BUTTONS)
+            return offset + button;
+        else if (button >= 100 && button < 100 + AXES)
+            return offset + BUTTONS + button - 100;
+        else if (button >= 200 && button < 200 + AXES)
+            return offset + BUTTONS + AXES + button - 200;
+        return -1;
+    }
+
+    /**
+     * Gets the button code at the specified dense index.
+     *
+     * @param index the index
+     * @return the button code
+     */
+    public static int buttonAt(int index) {
+        int offset = 0;
+        if (index >= CONTROLLER_SIZE) {
+            index -= CONTROLLER_SIZE;
+            offset = 500;
+        }
+
+        if (index < BUTTONS)
+            return offset + index;
+        else if (index < BUTTONS + AXES)
+            return offset + 100 + index - BUTTONS;
+        return offset + 200 + index - BUTTONS - AXES;
+    }
+
+    /**
+     * Gets the state of the specified button.
+     *
+     * @param button the button code
+     * @return the state of the button
+     */
+    public @NotNull ButtonState get(int button) {
+        int index = indexOf(button);
+        return index == -1 ? ButtonState.NONE : ButtonState.byId(this.states[index]);
+    }
+
+    /**
+     * Gets the state at the specified dense index.
+     *
+     * @param index the index
+     * @return the state
+     */
+    public @NotNull ButtonState getByIndex(int index) {
+        return ButtonState.byId(this.states[index]);
+    }
+
+    /**
+     * Sets the state of the specified button.
+     *
+     * @param button the button code
+     * @param state the new state
+     */
+    public void put(int button, @NotNull ButtonState state) {
+        int index = indexOf(button);
+        if (index != -1)
+            this.states[index] = (byte) state.id;
+    }
+
+    /**
+     * Gets the analog value of the specified button.
+     *
+     * @param button the button code
+     * @return the analog value of the button
+     */
+    public float getValue(int button) {
+        int index = indexOf(button);
+        return index == -1 ? 1.f : this.values[index];
+    }
+
+    /**
+     * Sets the analog value of the specified button.
+     *
+     * @param button the button code
+     * @param value the new value
+     */
+    public void putValue(int button, float value) {
+        int index = indexOf(button);
+        if (index != -1)
+            this.values[index] = value;
+    }
+
+    /**
+     * Updates the states, pressed buttons become repeated and released buttons become idle.
+     */
+    public void update() {
+        for (int i = 0; i < SIZE; i++) {
+            byte state = this.states[i];
+            if (state == ButtonState.PRESS.id)
+                this.states[i] = (byte) ButtonState.REPEAT.id;
+            else if (state == ButtonState.RELEASE.id)
+                this.states[i] = (byte) ButtonState.NONE.id;
+        }
+    }
+
+    /**
+     * Gets the pressed buttons as a bitmask, bit {@code n} being set if the button at the dense index {@code n} is pressed.
+     *
+     * @return the bitmask of the pressed buttons
+     */
+    public long getPressedMask() {
+        long mask = 0L;
+        for (int i = 0; i < SIZE; i++) {
+            if (this.states[i] == ButtonState.PRESS.id || this.states[i] == ButtonState.REPEAT.id)
+                mask |= 1L << i;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns whether every button is idle, which means no button is pressed, held or just released.
+     *
+     * @return true if every button state is {@link ButtonState#NONE}, else false
+     */
+    public boolean isIdle() {
+        for (int i = 0; i < SIZE; i++) {
+            if (this.states[i] != ButtonState.NONE.id)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether every button is unpressed.
+     *
+     * @return true if no button is pressed, else false
+     */
+    public boolean isAllUnpressed() {
+        for (int i = 0; i < SIZE; i++) {
+            if (this.states[i] == ButtonState.PRESS.id || this.states[i] == ButtonState.REPEAT.id)
+                return false;
+        }
+        return true;
+    }
+}
@@ -18,10 +18,8 @@ import net.minecraft.text.LiteralText;
 import net.minecraft.text.TranslatableText;
 import org.aperlambda.lambdacommon.utils.Nameable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
-import org.lwjgl.glfw.GLFWGamepadState;
-import org.lwjgl.system.MemoryStack;
-import org.lwjgl.system.MemoryUtil;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -36,13 +34,40 @@ import static org.lwjgl.BufferUtils.createByteBuffer;
 
 /**
  * Represents a controller.
+ * <p>
+ * The input is read from a {@link ControllerBackend}, GLFW by default.
+ * The virtual backend is used instead if the {@code midnightcontrols.backend} system property is set to {@code virtual}.
  *
  * @author LambdAurora
  * @version 1.7.0
  * @since 1.0.0
  */
-public record Controller(int id) implements Nameable {
+public final class Controller implements Nameable {
     private static final Map<Integer, Controller> CONTROLLERS = new HashMap<>();
+    private static ControllerBackend backend = createDefaultBackend();
+    private static ControllerBackend.ConnectionCallback connectionCallback = null;
+    private static int generation = 0;
+    private final int id;
+    private final GamepadState state = new GamepadState();
+    // Cached joystick information, refreshed lazily after an invalidation.
+    private int cachedGeneration = -1;
+    private boolean connected;
+    private boolean gamepad;
+    private String name;
+    private String guid;
+
+    private Controller(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the controller's identifier.
+     *
+     * @return the controller's identifier
+     */
+    public int id() {
+        return this.id;
+    }
 
     /**
      * Gets the controller's globally unique identifier.
@@ -50,8 +75,8 @@ public record Controller(int id) implements Nameable {
      * @return the controller's GUID
      */
     public String getGuid() {
-        String guid = GLFW.glfwGetJoystickGUID(this.id);
-        return guid == null ? "" : guid;
+        this.refresh();
+        return this.guid;
     }
 
     /**
@@ -60,7 +85,8 @@ public record Controller(int id) implements Nameable {
      * @return true if this controller is connected, else false
      */
     public boolean isConnected() {
-        return GLFW.glfwJoystickPresent(this.id);
+        this.refresh();
+        return this.connected;
     }
 
     /**
@@ -69,7 +95,8 @@ public record Controller(int id) implements Nameable {
      * @return true if this controller is a gamepad, else false
      */
     public boolean isGamepad() {
-        return this.isConnected() && GLFW.glfwJoystickIsGamepad(this.id);
+        this.refresh();
+        return this.gamepad;
     }
 
     /**
@@ -79,20 +106,114 @@ public record Controller(int id) implements Nameable {
      */
     @Override
     public String getName() {
-        var name = this.isGamepad() ? GLFW.glfwGetGamepadName(this.id) : GLFW.glfwGetJoystickName(this.id);
-        return name == null ? String.valueOf(this.id()) : name;
+        this.refresh();
+        return this.name;
+    }
+
+    private void refresh() {
+        if (this.cachedGeneration == generation)
+            return;
+        this.connected = backend.isPresent(this.id);
+        this.gamepad = this.connected && backend.isGamepad(this.id);
+        var guid = this.connected ? backend.getGuid(this.id) : null;
+        this.guid = guid == null ? "" : guid;
+        var name = this.connected ? backend.getName(this.id) : null;
+        this.name = name == null ? String.valueOf(this.id) : name;
+        this.cachedGeneration = generation;
+    }
+
+    /**
+     * Invalidates the cached information of every controller, like their presence or name.
+     * <p>
+     * This must be called when a joystick is connected or disconnected, or when the mappings change.
+     */
+    public static void invalidate() {
+        generation++;
+    }
+
+    private static ControllerBackend createDefaultBackend() {
+        if ("virtual".equals(System.getProperty("midnightcontrols.backend"))) {
+            var virtual = new VirtualControllerBackend();
+            virtual.connect(GLFW.GLFW_JOYSTICK_1, "Virtual Gamepad");
+            return virtual;
+        }
+        return new GlfwControllerBackend();
     }
 
     /**
-     * Gets the state of the controller.
+     * Gets the backend from which the controllers are read.
+     *
+     * @return the controller backend
+     */
+    public static @NotNull ControllerBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Sets the backend from which the controllers are read, the connection callback is moved to the new backend.
+     *
+     * @param newBackend the controller backend
+     */
+    public static void setBackend(@NotNull ControllerBackend newBackend) {
+        if (connectionCallback != null) {
+            backend.setConnectionCallback(null);
+            newBackend.setConnectionCallback(connectionCallback);
+        }
+        backend = newBackend;
+        invalidate();
+    }
+
+    /**
+     * Sets the callback notified when a controller is connected or disconnected.
+     *
+     * @param callback the callback
+     */
+    public static void setConnectionCallback(@Nullable ControllerBackend.ConnectionCallback callback) {
+        connectionCallback = callback == null ? null : (id, connected) -> {
+            invalidate();
+            callback.onConnection(id, connected);
+        };
+        backend.setConnectionCallback(connectionCallback);
+    }
+
+    /**
+     * Gets the current generation of the cached controller information, it changes on every invalidation.
+     *
+     * @return the current generation
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Polls and gets the state of the controller.
+     * <p>
+     * The returned state is owned by this controller and filled in place, the previous poll stays available through it.
      *
      * @return the state of the controller input
      */
-    public GLFWGamepadState getState() {
-        var state = GLFWGamepadState.create();
-        if (this.isGamepad())
-            GLFW.glfwGetGamepadState(this.id, state);
-        return state;
+    public GamepadState getState() {
+        var buffer = this.state.swap();
+        if (!this.isGamepad() || !backend.getGamepadState(this.id, buffer))
+            this.state.clear();
+        return this.state;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        return this.id == ((Controller) o).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.id);
+    }
+
+    @Override
+    public String toString() {
+        return "Controller[id=" + this.id + "]";
     }
 
     public static Controller byId(int id) {
@@ -149,25 +270,16 @@ public record Controller(int id) implements Nameable {
                 return;
             MidnightControlsClient.get().log("Updating controller mappings...");
             var buffer = ioResourceToBuffer(MidnightControlsClient.MAPPINGS_FILE.getPath(), 1024);
-            GLFW.glfwUpdateGamepadMappings(buffer);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+            var error = backend.updateMappings(buffer);
+            invalidate();
 
-        try (var memoryStack = MemoryStack.stackPush()) {
-            var pointerBuffer = memoryStack.mallocPointer(1);
-            int i = GLFW.glfwGetError(pointerBuffer);
-            if (i != 0) {
-                long l = pointerBuffer.get();
-                var string = l == 0L ? "" : MemoryUtil.memUTF8(l);
-                var client = MinecraftClient.getInstance();
-                if (client != null) {
-                    client.getToastManager().add(SystemToast.create(client, SystemToast.Type.TUTORIAL_HINT,
-                            new TranslatableText("midnightcontrols.controller.mappings.error"), new LiteralText(string)));
-                }
+            var client = MinecraftClient.getInstance();
+            if (error != null && client != null) {
+                client.getToastManager().add(SystemToast.create(client, SystemToast.Type.TUTORIAL_HINT,
+                        new TranslatableText("midnightcontrols.controller.mappings.error"), new LiteralText(error)));
             }
-        } catch (Throwable e) {
-            /* Ignored :concern: */
+        } catch (IOException e) {
+            e.printStackTrace();
         }
 
         if (MidnightControlsConfig.debug) {
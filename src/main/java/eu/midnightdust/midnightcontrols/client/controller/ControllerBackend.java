@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a source of controller input.
+ * <p>
+ * Controllers are identified by their joystick identifier, from {@code GLFW_JOYSTICK_1} to {@code GLFW_JOYSTICK_LAST}.
+ *
+ * @see Controller#setBackend(ControllerBackend)
+ */
+public interface ControllerBackend {
+    /**
+     * Returns whether the specified joystick is present.
+     *
+     * @param id the joystick identifier
+     * @return true if the joystick is present, else false
+     */
+    boolean isPresent(int id);
+
+    /**
+     * Returns whether the specified joystick has a gamepad mapping.
+     *
+     * @param id the joystick identifier
+     * @return true if the joystick is a gamepad, else false
+     */
+    boolean isGamepad(int id);
+
+    /**
+     * Gets the globally unique identifier of the specified joystick.
+     *
+     * @param id the joystick identifier
+     * @return the GUID, or {@code null} if the joystick is not present
+     */
+    @Nullable String getGuid(int id);
+
+    /**
+     * Gets the name of the specified joystick, which is the name of its gamepad mapping if it has one.
+     *
+     * @param id the joystick identifier
+     * @return the name, or {@code null} if the joystick is not present
+     */
+    @Nullable String getName(int id);
+
+    /**
+     * Reads the gamepad state of the specified joystick.
+     *
+     * @param id the joystick identifier
+     * @param state the state to fill
+     * @return true if the state was read, else false
+     */
+    boolean getGamepadState(int id, @NotNull GLFWGamepadState state);
+
+    /**
+     * Updates the gamepad mappings.
+     *
+     * @param mappings the mappings in the SDL_GameControllerDB format, null-terminated
+     * @return the error message, or {@code null} if the mappings were updated
+     */
+    @Nullable String updateMappings(@NotNull ByteBuffer mappings);
+
+    /**
+     * Sets the callback notified when a joystick is connected or disconnected.
+     *
+     * @param callback the callback, or {@code null} to remove it
+     */
+    void setConnectionCallback(@Nullable ConnectionCallback callback);
+
+    @FunctionalInterface
+    interface ConnectionCallback {
+        /**
+         * Called when a joystick is connected or disconnected.
+         *
+         * @param id the joystick identifier
+         * @param connected true if the joystick was connected, else false
+         */
+        void onConnection(int id, boolean connected);
+    }
+}
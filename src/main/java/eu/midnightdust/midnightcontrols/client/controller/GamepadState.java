@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.lwjgl.system.MemoryUtil;
+
+/**
+ * Represents a read-only view of a gamepad state.
+ * <p>
+ * The state is double-buffered: both native buffers are allocated once and filled in place,
+ * the previous snapshot stays available for diffing.
+ */
+public final class GamepadState {
+    public static final int BUTTON_COUNT = GLFW.GLFW_GAMEPAD_BUTTON_LAST + 1;
+    public static final int AXIS_COUNT = GLFW.GLFW_GAMEPAD_AXIS_LAST + 1;
+    private GLFWGamepadState current = GLFWGamepadState.create();
+    private GLFWGamepadState previous = GLFWGamepadState.create();
+
+    GamepadState() {
+    }
+
+    /**
+     * Returns whether the specified button is down.
+     *
+     * @param button the button index
+     * @return true if the button is down, else false
+     */
+    public boolean isButtonDown(int button) {
+        return this.current.buttons(button) == GLFW.GLFW_PRESS;
+    }
+
+    /**
+     * Gets the value of the specified axis.
+     *
+     * @param axis the axis index
+     * @return the axis value
+     */
+    public float getAxis(int axis) {
+        return this.current.axes(axis);
+    }
+
+    /**
+     * Returns whether the specified button was down in the previous snapshot.
+     *
+     * @param button the button index
+     * @return true if the button was down, else false
+     */
+    public boolean wasButtonDown(int button) {
+        return this.previous.buttons(button) == GLFW.GLFW_PRESS;
+    }
+
+    /**
+     * Gets the value of the specified axis in the previous snapshot.
+     *
+     * @param axis the axis index
+     * @return the previous axis value
+     */
+    public float getPreviousAxis(int axis) {
+        return this.previous.axes(axis);
+    }
+
+    /**
+     * Returns whether the current snapshot differs from the previous one.
+     *
+     * @return true if any button or axis changed, else false
+     */
+    public boolean hasChanged() {
+        long current = this.current.address();
+        long previous = this.previous.address();
+        int offset = 0;
+        for (; offset + Long.BYTES <= GLFWGamepadState.SIZEOF; offset += Long.BYTES) {
+            if (MemoryUtil.memGetLong(current + offset) != MemoryUtil.memGetLong(previous + offset))
+                return true;
+        }
+        for (; offset < GLFWGamepadState.SIZEOF; offset++) {
+            if (MemoryUtil.memGetByte(current + offset) != MemoryUtil.memGetByte(previous + offset))
+                return true;
+        }
+        return false;
+    }
+
+    public int getButtonCount() {
+        return BUTTON_COUNT;
+    }
+
+    public int getAxisCount() {
+        return AXIS_COUNT;
+    }
+
+    /**
+     * Swaps the buffers, the current snapshot becomes the previous one.
+     *
+     * @return the buffer to fill with the new snapshot
+     */
+    GLFWGamepadState swap() {
+        var buffer = this.previous;
+        this.previous = this.current;
+        this.current = buffer;
+        return buffer;
+    }
+
+    void clear() {
+        MemoryUtil.memSet(this.current.address(), 0, GLFWGamepadState.SIZEOF);
+    }
+
+    void setButton(int button, boolean down) {
+        this.current.buttons(button, (byte) (down ? GLFW.GLFW_PRESS : GLFW.GLFW_RELEASE));
+    }
+
+    void setAxis(int axis, float value) {
+        this.current.axes(axis, value);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.lwjgl.glfw.GLFWJoystickCallback;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Represents the controller backend reading the joysticks through GLFW.
+ * <p>
+ * GLFW joysticks may only be queried from the main thread.
+ */
+public final class GlfwControllerBackend implements ControllerBackend {
+    private @Nullable GLFWJoystickCallback joystickCallback;
+
+    @Override
+    public boolean isPresent(int id) {
+        return GLFW.glfwJoystickPresent(id);
+    }
+
+    @Override
+    public boolean isGamepad(int id) {
+        return GLFW.glfwJoystickIsGamepad(id);
+    }
+
+    @Override
+    public @Nullable String getGuid(int id) {
+        return GLFW.glfwGetJoystickGUID(id);
+    }
+
+    @Override
+    public @Nullable String getName(int id) {
+        return this.isGamepad(id) ? GLFW.glfwGetGamepadName(id) : GLFW.glfwGetJoystickName(id);
+    }
+
+    @Override
+    public boolean getGamepadState(int id, @NotNull GLFWGamepadState state) {
+        return GLFW.glfwGetGamepadState(id, state);
+    }
+
+    @Override
+    public @Nullable String updateMappings(@NotNull ByteBuffer mappings) {
+        GLFW.glfwUpdateGamepadMappings(mappings);
+
+        try (var memoryStack = MemoryStack.stackPush()) {
+            var pointerBuffer = memoryStack.mallocPointer(1);
+            int i = GLFW.glfwGetError(pointerBuffer);
+            if (i != 0) {
+                long l = pointerBuffer.get();
+                return l == 0L ? "" : MemoryUtil.memUTF8(l);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void setConnectionCallback(@Nullable ConnectionCallback callback) {
+        var installed = callback == null ? null
+                : GLFWJoystickCallback.create((jid, event) -> callback.onConnection(jid, event == GLFW.GLFW_CONNECTED));
+        GLFW.glfwSetJoystickCallback(installed);
+        // Only the callback installed by this backend is freed, the one returned by GLFW may belong to another mod.
+        if (this.joystickCallback != null)
+            this.joystickCallback.free();
+        this.joystickCallback = installed;
+    }
+}
@@ -22,13 +22,8 @@ import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.client.gui.screen.ingame.InventoryScreen;
 import net.minecraft.client.util.ScreenshotRecorder;
 import net.minecraft.item.ItemGroup;
-import net.minecraft.screen.slot.Slot;
-import org.aperlambda.lambdacommon.utils.Pair;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Comparator;
-import java.util.Optional;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -155,49 +150,16 @@ public class InputHandlers {
             // Finds the hovered slot.
             var mouseSlot = accessor.midnightcontrols$getSlotAt(mouseX, mouseY);
 
-            // Finds the closest slot in the GUI within 14 pixels.
-            Optional<Slot> closestSlot = inventory.getScreenHandler().slots.parallelStream()
-                    .filter(Predicate.isEqual(mouseSlot).negate())
-                    .map(slot -> {
-                        int posX = guiLeft + slot.x + 8;
-                        int posY = guiTop + slot.y + 8;
-
-                        int otherPosX = (int) mouseX;
-                        int otherPosY = (int) mouseY;
-                        if (mouseSlot != null) {
-                            otherPosX = guiLeft + mouseSlot.x + 8;
-                            otherPosY = guiTop + mouseSlot.y + 8;
-                        }
-
-                        // Distance between the slot and the cursor.
-                        double distance = Math.sqrt(Math.pow(posX - otherPosX, 2) + Math.pow(posY - otherPosY, 2));
-                        return Pair.of(slot, distance);
-                    }).filter(entry -> {
-                        var slot = entry.key;
-                        int posX = guiLeft + slot.x + 8;
-                        int posY = guiTop + slot.y + 8;
-                        int otherPosX = (int) mouseX;
-                        int otherPosY = (int) mouseY;
-                        if (mouseSlot != null) {
-                            otherPosX = guiLeft + mouseSlot.x + 8;
-                            otherPosY = guiTop + mouseSlot.y + 8;
-                        }
-                        if (direction == 0)
-                            return posY < otherPosY;
-                        else if (direction == 1)
-                            return posY > otherPosY;
-                        else if (direction == 2)
-                            return posX > otherPosX;
-                        else if (direction == 3)
-                            return posX < otherPosX;
-                        else
-                            return false;
-                    })
-                    .min(Comparator.comparingDouble(p -> p.value))
-                    .map(p -> p.key);
+            // Finds the closest slot in the specified direction, from the hovered slot or else from the cursor.
+            int fromX = (int) mouseX - guiLeft;
+            int fromY = (int) mouseY - guiTop;
+            if (mouseSlot != null) {
+                fromX = mouseSlot.x + 8;
+                fromY = mouseSlot.y + 8;
+            }
+            var slot = accessor.midnightcontrols$getSlotGrid().getNearestInDirection(fromX, fromY, direction, mouseSlot);
 
-            if (closestSlot.isPresent()) {
-                var slot = closestSlot.get();
+            if (slot != null) {
                 int x = guiLeft + slot.x + 8;
                 int y = guiTop + slot.y + 8;
                 InputManager.queueMousePosition(x * (double) client.getWindow().getWidth() / (double) client.getWindow().getScaledWidth(),
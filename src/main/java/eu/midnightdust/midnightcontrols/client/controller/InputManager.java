@@ -13,8 +13,9 @@ import eu.midnightdust.midnightcontrols.ControlsMode;
 import eu.midnightdust.midnightcontrols.client.ButtonState;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.util.MouseAccessor;
-import it.unimi.dsi.fastutil.ints.*;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.util.InputUtil;
@@ -39,9 +40,20 @@ import java.util.stream.Stream;
 public class InputManager {
     public static final InputManager INPUT_MANAGER = new InputManager();
     private static final List<ButtonBinding> BINDINGS = new ArrayList<>();
+    private static final Set<ButtonBinding> REGISTERED_BINDINGS = new ReferenceOpenHashSet<>();
+    private static final List<ButtonBinding> SORTED_BINDINGS = new ArrayList<>();
+    private static boolean sortDirty = true;
+    private static int loadedBindings = 0;
     private static final List<ButtonCategory> CATEGORIES = new ArrayList<>();
-    public static final Int2ObjectMap<ButtonState> STATES = new Int2ObjectOpenHashMap<>();
-    public static final Int2FloatMap BUTTON_VALUES = new Int2FloatOpenHashMap();
+    public static final ButtonStateTable STATES = new ButtonStateTable();
+    public static final ButtonCooldowns COOLDOWNS = new ButtonCooldowns();
+    private static final BindingDispatchTable DISPATCH_TABLE = new BindingDispatchTable();
+    private static final Long2ObjectMap<List<ButtonBinding>> CHORDS = new Long2ObjectOpenHashMap<>();
+    private static boolean chordsDirty = true;
+    /**
+     * The bit set in a chord key if the chord cannot be represented as a bitmask over the dense button index.
+     */
+    public static final long UNREPRESENTABLE_CHORD = Long.MIN_VALUE;
     private int prevTargetMouseX = 0;
     private int prevTargetMouseY = 0;
     private int targetMouseX = 0;
@@ -102,7 +114,7 @@ public class InputManager {
      * @return true if the binding is registered, else false
      */
     public static boolean hasBinding(@NotNull ButtonBinding binding) {
-        return BINDINGS.contains(binding);
+        return REGISTERED_BINDINGS.contains(binding);
     }
 
     /**
@@ -135,6 +147,8 @@ public class InputManager {
         if (hasBinding(binding))
             throw new IllegalStateException("Cannot register twice a button binding in the registry.");
         BINDINGS.add(binding);
+        REGISTERED_BINDINGS.add(binding);
+        markBindingsDirty();
         return binding;
     }
 
@@ -155,15 +169,59 @@ public class InputManager {
     }
 
     /**
-     * Sorts bindings to get bindings with the higher button counts first.
+     * Marks the bindings to be sorted to get bindings with the higher button counts first.
+     * <p>
+     * The sort is deferred until the sorted bindings are needed, so changing many bindings at once costs a single linear pass.
      */
     public static void sortBindings() {
-        synchronized (BINDINGS) {
-            var sorted = BINDINGS.stream()
-                    .sorted(Collections.reverseOrder(Comparator.comparingInt(binding -> binding.getButton().length))).toList();
-            BINDINGS.clear();
-            BINDINGS.addAll(sorted);
+        markBindingsDirty();
+    }
+
+    private static void markBindingsDirty() {
+        sortDirty = true;
+        DISPATCH_TABLE.markDirty();
+        chordsDirty = true;
+    }
+
+    /**
+     * Gets the bindings sorted by descending button count, bindings with the same button count keep their registration order.
+     *
+     * @return the sorted bindings
+     */
+    private static List<ButtonBinding> getSortedBindings() {
+        if (sortDirty) {
+            // Bucket sort by chord length.
+            int maxLength = 0;
+            for (var binding : BINDINGS)
+                maxLength = Math.max(maxLength, binding.getButton().length);
+            var starts = new int[maxLength + 2];
+            for (var binding : BINDINGS)
+                starts[maxLength - binding.getButton().length + 1]++;
+            for (int i = 1; i < starts.length; i++)
+                starts[i] += starts[i - 1];
+
+            var sorted = new ButtonBinding[BINDINGS.size()];
+            for (var binding : BINDINGS)
+                sorted[starts[maxLength - binding.getButton().length]++] = binding;
+
+            SORTED_BINDINGS.clear();
+            Collections.addAll(SORTED_BINDINGS, sorted);
+            sortDirty = false;
         }
+        return SORTED_BINDINGS;
+    }
+
+    private static Long2ObjectMap<List<ButtonBinding>> getChordIndex() {
+        if (chordsDirty) {
+            CHORDS.clear();
+            for (var binding : BINDINGS) {
+                long key = binding.getChordKey();
+                if ((key & UNREPRESENTABLE_CHORD) == 0)
+                    CHORDS.computeIfAbsent(key, k -> new ArrayList<>()).add(binding);
+            }
+            chordsDirty = false;
+        }
+        return CHORDS;
     }
 
     /**
@@ -195,8 +253,17 @@ public class InputManager {
      * Loads the button bindings from configuration.
      */
     public static void loadButtonBindings() {
-        var queue = new ArrayList<>(BINDINGS);
-        queue.forEach(MidnightControlsConfig::loadButtonBinding);
+        BINDINGS.forEach(MidnightControlsConfig::loadButtonBinding);
+        loadedBindings = BINDINGS.size();
+    }
+
+    /**
+     * Loads from configuration the button bindings registered since the last load.
+     */
+    public static void loadNewButtonBindings() {
+        for (int i = loadedBindings; i < BINDINGS.size(); i++)
+            MidnightControlsConfig.loadButtonBinding(BINDINGS.get(i));
+        loadedBindings = BINDINGS.size();
     }
 
     /**
@@ -208,7 +275,7 @@ public class InputManager {
     public static @NotNull ButtonState getBindingState(@NotNull ButtonBinding binding) {
         var state = ButtonState.REPEAT;
         for (int btn : binding.getButton()) {
-            var btnState = InputManager.STATES.getOrDefault(btn, ButtonState.NONE);
+            var btnState = InputManager.STATES.get(btn);
             if (btnState == ButtonState.PRESS)
                 state = ButtonState.PRESS;
             else if (btnState == ButtonState.RELEASE) {
@@ -229,7 +296,7 @@ public class InputManager {
         float value = 0.f;
         for (int btn : binding.getButton()) {
             if (ButtonBinding.isAxis(btn)) {
-                value = BUTTON_VALUES.getOrDefault(btn, 1.f);
+                value = STATES.getValue(btn);
                 break;
             } else {
                 value = 1.f;
@@ -245,7 +312,10 @@ public class InputManager {
      * @return true if the button has duplicated bindings, else false
      */
     public static boolean hasDuplicatedBindings(int[] button) {
-        return BINDINGS.parallelStream().filter(binding -> areButtonsEquivalent(binding.getButton(), button)).count() > 1;
+        long key = getChordKey(button);
+        if ((key & UNREPRESENTABLE_CHORD) == 0)
+            return getChordIndex().getOrDefault(key, Collections.emptyList()).size() > 1;
+        return BINDINGS.stream().filter(binding -> areButtonsEquivalent(binding.getButton(), button)).count() > 1;
     }
 
     /**
@@ -255,7 +325,37 @@ public class InputManager {
      * @return true if the button has duplicated bindings, else false
      */
     public static boolean hasDuplicatedBindings(ButtonBinding binding) {
-        return BINDINGS.parallelStream().filter(other -> areButtonsEquivalent(other.getButton(), binding.getButton()) && other.filter.equals(binding.filter)).count() > 1;
+        long key = binding.getChordKey();
+        if ((key & UNREPRESENTABLE_CHORD) == 0) {
+            int count = 0;
+            for (var other : getChordIndex().getOrDefault(key, Collections.emptyList())) {
+                if (other.filter.equals(binding.filter) && ++count > 1)
+                    return true;
+            }
+            return false;
+        }
+        return BINDINGS.stream().filter(other -> areButtonsEquivalent(other.getButton(), binding.getButton()) && other.filter.equals(binding.filter)).count() > 1;
+    }
+
+    /**
+     * Gets the canonical chord key of the specified buttons.
+     * <p>
+     * The key is a bitmask over the dense button index, so two sets of buttons are equivalent if their keys are equal.
+     * If a button cannot be indexed or is present twice, the {@link #UNREPRESENTABLE_CHORD} bit is set
+     * and the key cannot be compared.
+     *
+     * @param buttons the buttons
+     * @return the chord key
+     */
+    public static long getChordKey(int[] buttons) {
+        long key = 0L;
+        for (int button : buttons) {
+            int index = ButtonStateTable.indexOf(button);
+            if (index == -1 || (key & (1L << index)) != 0)
+                return UNREPRESENTABLE_CHORD;
+            key |= 1L << index;
+        }
+        return key;
     }
 
     /**
@@ -268,6 +368,11 @@ public class InputManager {
     public static boolean areButtonsEquivalent(int[] buttons1, int[] buttons2) {
         if (buttons1.length != buttons2.length)
             return false;
+        long key1 = getChordKey(buttons1);
+        long key2 = getChordKey(buttons2);
+        if (((key1 | key2) & UNREPRESENTABLE_CHORD) == 0)
+            return key1 == key2;
+
         int count = 0;
         for (int btn : buttons1) {
             for (int btn2 : buttons2) {
@@ -288,54 +393,31 @@ public class InputManager {
      * @return true if the button set contains the specified button, else false
      */
     public static boolean containsButton(int[] buttons, int button) {
-        return Arrays.stream(buttons).anyMatch(btn -> btn == button);
+        for (int btn : buttons) {
+            if (btn == button)
+                return true;
+        }
+        return false;
     }
 
     /**
      * Updates the button states.
      */
     public static void updateStates() {
-        for (var entry : STATES.int2ObjectEntrySet()) {
-            if (entry.getValue() == ButtonState.PRESS)
-                STATES.put(entry.getIntKey(), ButtonState.REPEAT);
-            else if (entry.getValue() == ButtonState.RELEASE)
-                STATES.put(entry.getIntKey(), ButtonState.NONE);
-        }
+        STATES.update();
     }
 
-    public static void updateBindings(@NotNull MinecraftClient client) {
-        var skipButtons = new IntArrayList();
-        record ButtonStateValue(ButtonState state, float value) {
-        }
-        var states = new Object2ObjectOpenHashMap<ButtonBinding, ButtonStateValue>();
-        for (var binding : BINDINGS) {
-            var state = binding.isAvailable(client) ? getBindingState(binding) : ButtonState.NONE;
-            if (skipButtons.intStream().anyMatch(btn -> containsButton(binding.getButton(), btn))) {
-                if (binding.pressed)
-                    state = ButtonState.RELEASE;
-                else
-                    state = ButtonState.NONE;
-            }
-
-            if (state == ButtonState.RELEASE && !binding.pressed) {
-                state = ButtonState.NONE;
-            }
-
-            binding.pressed = state.isPressed();
-            binding.update();
-            if (binding.pressed)
-                Arrays.stream(binding.getButton()).forEach(skipButtons::add);
-
-            float value = getBindingValue(binding, state);
-
-            states.put(binding, new ButtonStateValue(state, value));
-        }
+    /**
+     * Returns whether the input is idle: no button state needs an update and no binding is held.
+     *
+     * @return true if the input is idle, else false
+     */
+    public static boolean isIdle() {
+        return STATES.isIdle() && !DISPATCH_TABLE.hasHeldBindings();
+    }
 
-        states.forEach((binding, state) -> {
-            if (state.state() != ButtonState.NONE) {
-                binding.handle(client, state.value(), state.state());
-            }
-        });
+    public static void updateBindings(@NotNull MinecraftClient client) {
+        DISPATCH_TABLE.dispatch(client, getSortedBindings());
     }
 
     public static void queueMousePosition(double x, double y) {
@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents a recorder of the raw controller samples into an append-only binary log.
+ * <p>
+ * The log starts with a header made of {@link #MAGIC} and {@link #VERSION}, followed by fixed-size little-endian entries:
+ * <ul>
+ *     <li>{@code long} the time since the start of the recording in nanoseconds</li>
+ *     <li>{@code byte} the kind of the entry: {@link #PRIMARY}, {@link #SECOND} or {@link #TICK}</li>
+ *     <li>{@code byte} the flags of the entry</li>
+ *     <li>{@code short} reserved</li>
+ *     <li>{@code int} the bitmask of the buttons which are down</li>
+ *     <li>{@code float[6]} the axis values</li>
+ * </ul>
+ * A tick entry marks the consumption of the samples recorded since the previous tick,
+ * its flags tell which controllers were connected and whether their samples were coalesced.
+ * <p>
+ * Each entry is written to the file as soon as it is recorded, so a recording stays readable even if the game stops without closing it.
+ * If the file cannot be written, the recording is closed and the recording methods return false: it must not break the input.
+ */
+public final class InputRecorder implements Closeable {
+    static final int MAGIC = 0x4d43494e; // MCIN
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int ENTRY_SIZE = 40;
+    static final byte PRIMARY = 1;
+    static final byte SECOND = 2;
+    static final byte TICK = 3;
+    // Tick flags.
+    static final byte FLAG_PRIMARY = 1;
+    static final byte FLAG_SECOND = 1 << 1;
+    static final byte FLAG_SAMPLED = 1 << 2;
+    private final Path path;
+    private final FileChannel channel;
+    private final long start = System.nanoTime();
+    private final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private boolean failed = false;
+    private long ticks = 0;
+
+    private InputRecorder(@NotNull Path path, @NotNull FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.flip();
+        while (header.hasRemaining())
+            this.channel.write(header);
+    }
+
+    /**
+     * Starts a new recording, the file is replaced if it already exists.
+     *
+     * @param path the path of the recording
+     * @return the recorder
+     * @throws IOException if the recording file cannot be created
+     */
+    public static @NotNull InputRecorder open(@NotNull Path path) throws IOException {
+        if (path.getParent() != null)
+            Files.createDirectories(path.getParent());
+        var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new InputRecorder(path, channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public @NotNull Path getPath() {
+        return this.path;
+    }
+
+    /**
+     * Gets the count of recorded ticks.
+     *
+     * @return the count of ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Records the sample of the primary controller.
+     *
+     * @param state the state read from the controller
+     * @return true if the sample was recorded, or false if the recording failed and was closed
+     */
+    public boolean recordPrimary(@NotNull GamepadState state) {
+        return this.record(PRIMARY, state);
+    }
+
+    /**
+     * Records the sample of the second controller.
+     *
+     * @param state the state read from the controller
+     * @return true if the sample was recorded, or false if the recording failed and was closed
+     */
+    public boolean recordSecond(@NotNull GamepadState state) {
+        return this.record(SECOND, state);
+    }
+
+    /**
+     * Records the last sample taken by the specified sampler.
+     *
+     * @param sampler the sampler of the primary controller
+     * @return true if the sample was recorded, or false if the recording failed and was closed
+     */
+    public boolean recordPrimary(@NotNull InputSampler sampler) {
+        return this.record(PRIMARY, sampler.getLastSample());
+    }
+
+    /**
+     * Records the last sample taken by the specified sampler.
+     *
+     * @param sampler the sampler of the second controller
+     * @return true if the sample was recorded, or false if the recording failed and was closed
+     */
+    public boolean recordSecond(@NotNull InputSampler sampler) {
+        return this.record(SECOND, sampler.getLastSample());
+    }
+
+    private boolean record(byte kind, @NotNull GLFWGamepadState sample) {
+        int buttons = 0;
+        for (int i = 0; i < GamepadState.BUTTON_COUNT; i++) {
+            if (sample.buttons(i) == GLFW.GLFW_PRESS)
+                buttons |= 1 << i;
+        }
+        this.begin(kind, (byte) 0, buttons);
+        for (int i = 0; i < GamepadState.AXIS_COUNT; i++)
+            this.entry.putFloat(sample.axes(i));
+        return this.write();
+    }
+
+    private boolean record(byte kind, @NotNull GamepadState state) {
+        int buttons = 0;
+        for (int i = 0; i < GamepadState.BUTTON_COUNT; i++) {
+            if (state.isButtonDown(i))
+                buttons |= 1 << i;
+        }
+        this.begin(kind, (byte) 0, buttons);
+        for (int i = 0; i < GamepadState.AXIS_COUNT; i++)
+            this.entry.putFloat(state.getAxis(i));
+        return this.write();
+    }
+
+    /**
+     * Records the consumption of the recorded samples by a controller tick.
+     *
+     * @param primary true if the primary controller was connected, else false
+     * @param second true if the second controller was connected, else false
+     * @param sampled true if the samples were coalesced by the sub-tick samplers, else false
+     * @return true if the tick was recorded, or false if the recording failed and was closed
+     */
+    public boolean tick(boolean primary, boolean second, boolean sampled) {
+        int flags = 0;
+        if (primary)
+            flags |= FLAG_PRIMARY;
+        if (second)
+            flags |= FLAG_SECOND;
+        if (sampled)
+            flags |= FLAG_SAMPLED;
+        this.begin(TICK, (byte) flags, 0);
+        for (int i = 0; i < GamepadState.AXIS_COUNT; i++)
+            this.entry.putFloat(0.f);
+        if (!this.write())
+            return false;
+        this.ticks++;
+        return true;
+    }
+
+    private void begin(byte kind, byte flags, int buttons) {
+        this.entry.clear();
+        this.entry.putLong(System.nanoTime() - this.start);
+        this.entry.put(kind);
+        this.entry.put(flags);
+        this.entry.putShort((short) 0);
+        this.entry.putInt(buttons);
+    }
+
+    private boolean write() {
+        if (this.failed)
+            return false;
+        this.entry.flip();
+        try {
+            while (this.entry.hasRemaining())
+                this.channel.write(this.entry);
+            return true;
+        } catch (IOException e) {
+            this.failed = true;
+            MidnightControlsClient.get().warn("Failed to write the input recording " + this.path + ", the recording is stopped: " + e.getMessage());
+            try {
+                this.channel.close();
+            } catch (IOException ignored) {
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Flushes and closes the recording.
+     *
+     * @throws IOException if the recording cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.failed)
+            this.channel.close();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents the replay of a recording made by {@link InputRecorder}.
+ * <p>
+ * Each controller tick consumes the samples recorded up to the next tick entry,
+ * sub-tick samples are coalesced the same way they were while recording.
+ */
+public final class InputReplay implements Closeable {
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final GLFWGamepadState sample = GLFWGamepadState.create();
+    private final InputSampler primarySampler = new InputSampler();
+    private final InputSampler secondSampler = new InputSampler();
+    private final GamepadState primary = new GamepadState();
+    private final GamepadState second = new GamepadState();
+    private GamepadState primaryState = null;
+    private GamepadState secondState = null;
+    private long time = 0L;
+    private long ticks = 0L;
+
+    private InputReplay(@NotNull Path path, @NotNull FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        long size = channel.size();
+        if (size < InputRecorder.HEADER_SIZE || size > Integer.MAX_VALUE)
+            throw new IOException("Invalid input recording size " + size + ".");
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (this.buffer.getInt() != InputRecorder.MAGIC)
+            throw new IOException(path + " is not an input recording.");
+        int version = this.buffer.getInt();
+        if (version != InputRecorder.VERSION)
+            throw new IOException("Unsupported input recording version " + version + ".");
+    }
+
+    /**
+     * Opens the specified recording.
+     *
+     * @param path the path of the recording
+     * @return the replay
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    public static @NotNull InputReplay open(@NotNull Path path) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new InputReplay(path, channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public @NotNull Path getPath() {
+        return this.path;
+    }
+
+    /**
+     * Gets the count of replayed ticks.
+     *
+     * @return the count of ticks
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * Gets the time of the current tick since the start of the recording.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getTime() {
+        return this.time;
+    }
+
+    /**
+     * Consumes the samples of the next tick.
+     *
+     * @return true if a tick was read, or false if the end of the recording is reached
+     */
+    public boolean nextTick() {
+        while (this.buffer.remaining() >= InputRecorder.ENTRY_SIZE) {
+            long time = this.buffer.getLong();
+            byte kind = this.buffer.get();
+            byte flags = this.buffer.get();
+            this.buffer.getShort();
+            int buttons = this.buffer.getInt();
+            for (int i = 0; i < GamepadState.AXIS_COUNT; i++)
+                this.sample.axes(i, this.buffer.getFloat());
+            for (int i = 0; i < GamepadState.BUTTON_COUNT; i++)
+                this.sample.buttons(i, (byte) ((buttons & (1 << i)) != 0 ? GLFW.GLFW_PRESS : GLFW.GLFW_RELEASE));
+
+            switch (kind) {
+                case InputRecorder.PRIMARY -> this.accept(this.primarySampler, this.primary);
+                case InputRecorder.SECOND -> this.accept(this.secondSampler, this.second);
+                case InputRecorder.TICK -> {
+                    boolean sampled = (flags & InputRecorder.FLAG_SAMPLED) != 0;
+                    this.primaryState = this.resolve(flags, InputRecorder.FLAG_PRIMARY, sampled, this.primarySampler, this.primary);
+                    this.secondState = this.resolve(flags, InputRecorder.FLAG_SECOND, sampled, this.secondSampler, this.second);
+                    this.time = time;
+                    this.ticks++;
+                    return true;
+                }
+                default -> {
+                    // Zero-filled space after the last entry.
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void accept(@NotNull InputSampler sampler, @NotNull GamepadState state) {
+        sampler.accept(this.sample);
+        state.swap();
+        for (int i = 0; i < GamepadState.BUTTON_COUNT; i++)
+            state.setButton(i, this.sample.buttons(i) == GLFW.GLFW_PRESS);
+        for (int i = 0; i < GamepadState.AXIS_COUNT; i++)
+            state.setAxis(i, this.sample.axes(i));
+    }
+
+    private @Nullable GamepadState resolve(byte flags, byte flag, boolean sampled, @NotNull InputSampler sampler, @NotNull GamepadState state) {
+        if ((flags & flag) == 0) {
+            sampler.reset();
+            return null;
+        }
+        if (sampled)
+            return sampler.coalesce();
+        // Without sub-tick sampling the tick reads a single sample.
+        sampler.reset();
+        return state;
+    }
+
+    /**
+     * Gets the state of the primary controller for the current tick.
+     *
+     * @return the state, or {@code null} if the controller was not connected
+     */
+    public @Nullable GamepadState getState() {
+        return this.primaryState;
+    }
+
+    /**
+     * Gets the state of the second controller for the current tick.
+     *
+     * @return the state, or {@code null} if the controller was not connected
+     */
+    public @Nullable GamepadState getSecondState() {
+        return this.secondState;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
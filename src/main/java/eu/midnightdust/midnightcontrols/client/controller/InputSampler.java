@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+/**
+ * Represents a sub-tick sampler of a controller state.
+ * <p>
+ * Samples taken between two client ticks are accumulated, the tick then consumes a coalesced snapshot
+ * in which no press/release pair is lost and analog axes report their peak value.
+ */
+public final class InputSampler {
+    private static final int BUTTON_COUNT = GamepadState.BUTTON_COUNT;
+    private static final int AXIS_COUNT = GamepadState.AXIS_COUNT;
+    private final GLFWGamepadState sample = GLFWGamepadState.create();
+    private final GamepadState snapshot = new GamepadState();
+    private final float[] lastAxes = new float[AXIS_COUNT];
+    private final float[] peakAxes = new float[AXIS_COUNT];
+    private int controllerId = -1;
+    // Button bitmasks.
+    private int current = 0;
+    private int seenDown = 0;
+    private int seenUp = ~0;
+    private int reported = 0;
+
+    /**
+     * Samples the state of the specified controller.
+     *
+     * @param controller the controller to sample
+     * @return true if a sample was taken, else false
+     */
+    public boolean sample(@NotNull Controller controller) {
+        if (controller.id() != this.controllerId)
+            this.reset(controller.id());
+        if (!controller.isGamepad())
+            return false;
+
+        if (!Controller.getBackend().getGamepadState(controller.id(), this.sample))
+            return false;
+        this.accept(this.sample);
+        return true;
+    }
+
+    /**
+     * Accumulates the specified sample.
+     *
+     * @param sample the sample
+     */
+    void accept(@NotNull GLFWGamepadState sample) {
+        int down = 0;
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            if (sample.buttons(i) == GLFW.GLFW_PRESS)
+                down |= 1 << i;
+        }
+        this.current = down;
+        this.seenDown |= down;
+        this.seenUp |= ~down;
+
+        for (int i = 0; i < AXIS_COUNT; i++) {
+            float value = sample.axes(i);
+            this.lastAxes[i] = value;
+            if (isTrigger(i)) {
+                // Triggers rest at -1, their peak is the furthest pull.
+                this.peakAxes[i] = Math.max(this.peakAxes[i], value);
+            } else if (Math.abs(value) > Math.abs(this.peakAxes[i])) {
+                this.peakAxes[i] = value;
+            }
+        }
+    }
+
+    private static boolean isTrigger(int axis) {
+        return axis == GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER || axis == GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER;
+    }
+
+    /**
+     * Gets the last sample taken from the controller.
+     *
+     * @return the last sample
+     */
+    public @NotNull GLFWGamepadState getLastSample() {
+        return this.sample;
+    }
+
+    /**
+     * Coalesces every sample since the last call.
+     * <p>
+     * A button pressed and released between two ticks is reported as pressed for this tick and released the next one,
+     * a button released and pressed again is reported as released for this tick and pressed the next one.
+     *
+     * @return the coalesced state, owned by this sampler
+     */
+    public @NotNull GamepadState coalesce() {
+        int report = (this.reported & ~this.seenUp) | (~this.reported & this.seenDown);
+        this.snapshot.swap();
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            this.snapshot.setButton(i, ((report >> i) & 1) != 0);
+        }
+        for (int i = 0; i < AXIS_COUNT; i++) {
+            this.snapshot.setAxis(i, this.peakAxes[i]);
+            this.peakAxes[i] = this.lastAxes[i];
+        }
+
+        this.reported = report;
+        this.seenDown = this.current;
+        this.seenUp = ~this.current;
+        return this.snapshot;
+    }
+
+    /**
+     * Resets this sampler, every accumulated sample is dropped.
+     */
+    public void reset() {
+        this.reset(this.controllerId);
+    }
+
+    private void reset(int controllerId) {
+        this.controllerId = controllerId;
+        this.current = 0;
+        this.seenDown = 0;
+        this.seenUp = ~0;
+        this.reported = 0;
+        for (int i = 0; i < AXIS_COUNT; i++) {
+            float rest = isTrigger(i) ? -1.f : 0.f;
+            this.lastAxes[i] = rest;
+            this.peakAxes[i] = rest;
+        }
+    }
+}
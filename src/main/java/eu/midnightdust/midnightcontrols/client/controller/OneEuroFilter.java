@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+/**
+ * Represents a One Euro filter, an adaptive low-pass filter for a single axis.
+ * <p>
+ * The cutoff frequency rises with the speed of the signal: slow movements are smoothed to remove jitter,
+ * while fast movements are followed with little latency.
+ * The minimum cutoff trades jitter against latency at rest, and beta sets how fast the cutoff rises with the speed.
+ */
+public final class OneEuroFilter {
+    private static final double DERIVATIVE_CUTOFF = 1.0;
+    private double value = 0.0;
+    private double derivative = 0.0;
+    private long lastTime = 0L;
+
+    /**
+     * Filters the specified value.
+     *
+     * @param value the raw value
+     * @param time the time of the value in nanoseconds
+     * @param minCutoff the minimum cutoff frequency in Hz
+     * @param beta the speed coefficient
+     * @return the filtered value
+     */
+    public float filter(float value, long time, double minCutoff, double beta) {
+        if (this.lastTime == 0L) {
+            this.lastTime = time;
+            this.value = value;
+            this.derivative = 0.0;
+            return value;
+        }
+
+        double delta = (time - this.lastTime) / 1_000_000_000.0;
+        this.lastTime = time;
+        if (delta <= 0.0)
+            return (float) this.value;
+
+        this.derivative += alpha(DERIVATIVE_CUTOFF, delta) * ((value - this.value) / delta - this.derivative);
+        double cutoff = minCutoff + beta * Math.abs(this.derivative);
+        this.value += alpha(cutoff, delta) * (value - this.value);
+        return (float) this.value;
+    }
+
+    private static double alpha(double cutoff, double delta) {
+        double tau = 1.0 / (2.0 * Math.PI * cutoff);
+        return 1.0 / (1.0 + tau / delta);
+    }
+
+    /**
+     * Resets this filter, the next value is returned as is.
+     */
+    public void reset() {
+        this.lastTime = 0L;
+    }
+}
@@ -10,6 +10,7 @@
 package eu.midnightdust.midnightcontrols.client.controller;
 
 import eu.midnightdust.midnightcontrols.client.ButtonState;
+import eu.midnightdust.midnightcontrols.client.profiler.InputLatency;
 import eu.midnightdust.midnightcontrols.client.util.KeyBindingAccessor;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.StickyKeyBinding;
@@ -32,6 +33,8 @@ public interface PressAction {
                 binding.setPressed(button.pressed);
             else
                 ((KeyBindingAccessor) binding).midnightcontrols$handlePressState(button.isButtonDown());
+            if (action == ButtonState.PRESS && InputLatency.isEnabled())
+                InputLatency.onKeyBindingPress(button);
         });
         return true;
     };
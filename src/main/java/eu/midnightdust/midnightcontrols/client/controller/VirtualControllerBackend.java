@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Represents a controller backend of scripted virtual gamepads, which requires neither a physical controller nor a display.
+ * <p>
+ * Gamepads are connected and disconnected programmatically, and their input follows timelines evaluated against a clock in milliseconds.
+ * The clock defaults to the time elapsed since the creation of the backend, and can be replaced to step the timelines manually.
+ *
+ * @see VirtualGamepad
+ */
+public final class VirtualControllerBackend implements ControllerBackend {
+    private final VirtualGamepad[] gamepads = new VirtualGamepad[GLFW.GLFW_JOYSTICK_LAST + 1];
+    private LongSupplier clock;
+    private ConnectionCallback callback = null;
+
+    public VirtualControllerBackend() {
+        long start = System.nanoTime();
+        this.clock = () -> (System.nanoTime() - start) / 1_000_000L;
+    }
+
+    /**
+     * Sets the clock against which the timelines are evaluated.
+     *
+     * @param clock the clock, in milliseconds
+     */
+    public void setClock(@NotNull LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Connects a new virtual gamepad.
+     *
+     * @param id the joystick identifier
+     * @param name the name of the gamepad
+     * @return the gamepad
+     */
+    public @NotNull VirtualGamepad connect(int id, @NotNull String name) {
+        if (id < GLFW.GLFW_JOYSTICK_1 || id > GLFW.GLFW_JOYSTICK_LAST)
+            throw new IllegalArgumentException("Invalid joystick identifier " + id + ".");
+        if (this.gamepads[id] != null)
+            this.disconnect(id);
+        var gamepad = new VirtualGamepad(id, name);
+        this.gamepads[id] = gamepad;
+        Controller.invalidate();
+        if (this.callback != null)
+            this.callback.onConnection(id, true);
+        return gamepad;
+    }
+
+    /**
+     * Disconnects the specified virtual gamepad.
+     *
+     * @param id the joystick identifier
+     */
+    public void disconnect(int id) {
+        if (id < GLFW.GLFW_JOYSTICK_1 || id > GLFW.GLFW_JOYSTICK_LAST || this.gamepads[id] == null)
+            return;
+        this.gamepads[id] = null;
+        Controller.invalidate();
+        if (this.callback != null)
+            this.callback.onConnection(id, false);
+    }
+
+    /**
+     * Gets the virtual gamepad connected with the specified identifier.
+     *
+     * @param id the joystick identifier
+     * @return the gamepad if connected, else an empty optional
+     */
+    public @NotNull Optional<VirtualGamepad> getGamepad(int id) {
+        if (id < GLFW.GLFW_JOYSTICK_1 || id > GLFW.GLFW_JOYSTICK_LAST)
+            return Optional.empty();
+        return Optional.ofNullable(this.gamepads[id]);
+    }
+
+    @Override
+    public boolean isPresent(int id) {
+        return this.getGamepad(id).isPresent();
+    }
+
+    @Override
+    public boolean isGamepad(int id) {
+        return this.getGamepad(id).map(VirtualGamepad::isGamepad).orElse(false);
+    }
+
+    @Override
+    public @Nullable String getGuid(int id) {
+        return this.getGamepad(id).map(VirtualGamepad::getGuid).orElse(null);
+    }
+
+    @Override
+    public @Nullable String getName(int id) {
+        return this.getGamepad(id).map(VirtualGamepad::getName).orElse(null);
+    }
+
+    @Override
+    public boolean getGamepadState(int id, @NotNull GLFWGamepadState state) {
+        if (id < GLFW.GLFW_JOYSTICK_1 || id > GLFW.GLFW_JOYSTICK_LAST)
+            return false;
+        var gamepad = this.gamepads[id];
+        if (gamepad == null || !gamepad.isGamepad())
+            return false;
+        gamepad.fill(this.clock.getAsLong(), state);
+        return true;
+    }
+
+    @Override
+    public @Nullable String updateMappings(@NotNull ByteBuffer mappings) {
+        // Virtual gamepads are always mapped.
+        return null;
+    }
+
+    @Override
+    public void setConnectionCallback(@Nullable ConnectionCallback callback) {
+        this.callback = callback;
+    }
+}
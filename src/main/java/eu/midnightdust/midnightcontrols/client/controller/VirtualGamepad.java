@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+
+import java.util.Arrays;
+
+/**
+ * Represents a scripted gamepad of the {@link VirtualControllerBackend}.
+ * <p>
+ * The input follows a timeline in milliseconds: buttons are held during intervals,
+ * and axes are linearly interpolated between keyframes and keep their last value after the last keyframe.
+ * Axes rest at {@code 0}, and triggers at {@code -1}, before their first keyframe.
+ */
+public final class VirtualGamepad {
+    private final int id;
+    private final String name;
+    private final String guid;
+    private boolean gamepad = true;
+    private long period = 0L;
+    // Button presses.
+    private int[] pressButtons = new int[8];
+    private long[] pressFrom = new long[8];
+    private long[] pressTo = new long[8];
+    private int presses = 0;
+    // Axis keyframes, sorted by time.
+    private final long[][] keyTimes = new long[GamepadState.AXIS_COUNT][];
+    private final float[][] keyValues = new float[GamepadState.AXIS_COUNT][];
+    private final int[] keys = new int[GamepadState.AXIS_COUNT];
+
+    VirtualGamepad(int id, @NotNull String name) {
+        this.id = id;
+        this.name = name;
+        this.guid = String.format("76697274%024x", id); // "virt"
+        for (int axis = 0; axis < GamepadState.AXIS_COUNT; axis++) {
+            this.keyTimes[axis] = new long[4];
+            this.keyValues[axis] = new float[4];
+        }
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    public @NotNull String getGuid() {
+        return this.guid;
+    }
+
+    public boolean isGamepad() {
+        return this.gamepad;
+    }
+
+    /**
+     * Sets whether this device has a gamepad mapping, a device without mapping is a plain joystick.
+     *
+     * @param gamepad true if this device is a gamepad, else false
+     * @return this gamepad
+     */
+    public @NotNull VirtualGamepad setGamepad(boolean gamepad) {
+        this.gamepad = gamepad;
+        Controller.invalidate();
+        return this;
+    }
+
+    /**
+     * Holds the specified button during the specified interval.
+     *
+     * @param button the button
+     * @param from the time at which the button is pressed, inclusive
+     * @param to the time at which the button is released, exclusive
+     * @return this gamepad
+     */
+    public @NotNull VirtualGamepad press(int button, long from, long to) {
+        if (button < 0 || button >= GamepadState.BUTTON_COUNT)
+            throw new IllegalArgumentException("Invalid gamepad button " + button + ".");
+        if (this.presses == this.pressButtons.length) {
+            int capacity = this.presses * 2;
+            this.pressButtons = Arrays.copyOf(this.pressButtons, capacity);
+            this.pressFrom = Arrays.copyOf(this.pressFrom, capacity);
+            this.pressTo = Arrays.copyOf(this.pressTo, capacity);
+        }
+        this.pressButtons[this.presses] = button;
+        this.pressFrom[this.presses] = from;
+        this.pressTo[this.presses] = to;
+        this.presses++;
+        return this;
+    }
+
+    /**
+     * Adds a keyframe to the specified axis, a keyframe at the same time is replaced.
+     *
+     * @param axis the axis
+     * @param time the time of the keyframe
+     * @param value the value of the axis
+     * @return this gamepad
+     */
+    public @NotNull VirtualGamepad axis(int axis, long time, float value) {
+        var times = this.keyTimes[axis];
+        int count = this.keys[axis];
+        int index = Arrays.binarySearch(times, 0, count, time);
+        if (index >= 0) {
+            this.keyValues[axis][index] = value;
+            return this;
+        }
+        index = -index - 1;
+        if (count == times.length) {
+            this.keyTimes[axis] = times = Arrays.copyOf(times, count * 2);
+            this.keyValues[axis] = Arrays.copyOf(this.keyValues[axis], count * 2);
+        }
+        var values = this.keyValues[axis];
+        System.arraycopy(times, index, times, index + 1, count - index);
+        System.arraycopy(values, index, values, index + 1, count - index);
+        times[index] = time;
+        values[index] = value;
+        this.keys[axis]++;
+        return this;
+    }
+
+    /**
+     * Repeats the timeline with the specified period.
+     *
+     * @param period the period, or {@code 0} to play the timeline once
+     * @return this gamepad
+     */
+    public @NotNull VirtualGamepad loop(long period) {
+        this.period = period;
+        return this;
+    }
+
+    /**
+     * Clears the timeline, every button is released and every axis rests.
+     *
+     * @return this gamepad
+     */
+    public @NotNull VirtualGamepad clear() {
+        this.presses = 0;
+        Arrays.fill(this.keys, 0);
+        this.period = 0L;
+        return this;
+    }
+
+    /**
+     * Fills the specified state with the input at the specified time.
+     *
+     * @param time the time
+     * @param state the state to fill
+     */
+    void fill(long time, @NotNull GLFWGamepadState state) {
+        if (this.period > 0L)
+            time = Math.floorMod(time, this.period);
+
+        for (int i = 0; i < GamepadState.BUTTON_COUNT; i++)
+            state.buttons(i, (byte) GLFW.GLFW_RELEASE);
+        for (int i = 0; i < this.presses; i++) {
+            if (time >= this.pressFrom[i] && time < this.pressTo[i])
+                state.buttons(this.pressButtons[i], (byte) GLFW.GLFW_PRESS);
+        }
+
+        for (int axis = 0; axis < GamepadState.AXIS_COUNT; axis++)
+            state.axes(axis, this.getAxis(axis, time));
+    }
+
+    private float getAxis(int axis, long time) {
+        int count = this.keys[axis];
+        if (count == 0)
+            return getRestValue(axis);
+
+        var times = this.keyTimes[axis];
+        var values = this.keyValues[axis];
+        int index = Arrays.binarySearch(times, 0, count, time);
+        if (index >= 0)
+            return values[index];
+        index = -index - 1;
+        if (index == 0)
+            return getRestValue(axis);
+        if (index == count)
+            return values[count - 1];
+
+        float progress = (float) (time - times[index - 1]) / (times[index] - times[index - 1]);
+        return values[index - 1] + (values[index] - values[index - 1]) * progress;
+    }
+
+    private static float getRestValue(int axis) {
+        return axis == GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER || axis == GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER ? -1.f : 0.f;
+    }
+}
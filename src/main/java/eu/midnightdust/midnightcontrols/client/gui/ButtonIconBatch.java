@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.gui;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferRenderer;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the batch of the controller button icons.
+ * <p>
+ * The icon quads are collected into one vertex buffer between {@link #begin()} and {@link #end()},
+ * then drawn with one draw call from the {@link ControllerGlyphAtlas}. Icons added outside of a batch are drawn right away.
+ * The second controller tint is stored in the vertex color, so the icons do not change the shader color.
+ */
+public final class ButtonIconBatch {
+    private static final BufferBuilder BUFFER = new BufferBuilder(256);
+    private static int quads = 0;
+    private static int depth = 0;
+
+    private ButtonIconBatch() {
+        throw new UnsupportedOperationException("ButtonIconBatch only contains static definitions.");
+    }
+
+    /**
+     * Starts a batch, batches may be nested and are drawn when the outermost one ends.
+     */
+    public static void begin() {
+        depth++;
+    }
+
+    /**
+     * Ends a batch and draws the collected icons if it is the outermost one.
+     */
+    public static void end() {
+        if (depth > 0 && --depth == 0)
+            flush();
+    }
+
+    /**
+     * Adds an icon quad.
+     *
+     * @param matrices the matrices
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param u the U coordinate in the atlas, in pixels
+     * @param v the V coordinate in the atlas, in pixels
+     * @param size the size of the icon, in pixels
+     * @param second true if the icon is of the second controller, else false
+     */
+    public static void add(@NotNull MatrixStack matrices, int x, int y, float u, float v, int size, boolean second) {
+        if (quads == 0)
+            BUFFER.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR_TEXTURE);
+
+        var matrix = matrices.peek().getPositionMatrix();
+        int green = second ? 0 : 255;
+        float minU = u / ControllerGlyphAtlas.WIDTH, maxU = (u + size) / ControllerGlyphAtlas.WIDTH;
+        float minV = v / ControllerGlyphAtlas.HEIGHT, maxV = (v + size) / ControllerGlyphAtlas.HEIGHT;
+        BUFFER.vertex(matrix, (float) x, (float) (y + size), 0.f).color(255, green, 255, 255).texture(minU, maxV).next();
+        BUFFER.vertex(matrix, (float) (x + size), (float) (y + size), 0.f).color(255, green, 255, 255).texture(maxU, maxV).next();
+        BUFFER.vertex(matrix, (float) (x + size), (float) y, 0.f).color(255, green, 255, 255).texture(maxU, minV).next();
+        BUFFER.vertex(matrix, (float) x, (float) y, 0.f).color(255, green, 255, 255).texture(minU, minV).next();
+        quads++;
+
+        if (depth == 0)
+            flush();
+    }
+
+    private static void flush() {
+        if (quads == 0)
+            return;
+        RenderSystem.setShader(GameRenderer::getPositionColorTexShader);
+        RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
+        RenderSystem.setShaderTexture(0, ControllerGlyphAtlas.TEXTURE);
+        RenderSystem.disableDepthTest();
+        BUFFER.end();
+        BufferRenderer.draw(BUFFER);
+        quads = 0;
+        RenderSystem.enableDepthTest();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.gui;
+
+import eu.midnightdust.midnightcontrols.MidnightControlsConstants;
+import eu.midnightdust.midnightcontrols.client.ControllerType;
+import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+
+import java.io.IOException;
+
+/**
+ * Represents the atlas of the controller glyphs.
+ * <p>
+ * The atlas is built at resource reload from the buttons, expanded buttons and axis textures:
+ * each controller type has a block of three strips, one per texture, holding the glyphs of this controller type.
+ * The rectangle of each glyph is precomputed in a table indexed by the controller type and the button code.
+ */
+public final class ControllerGlyphAtlas implements SimpleSynchronousResourceReloadListener {
+    public static final Identifier TEXTURE = new Identifier(MidnightControlsConstants.NAMESPACE, "controller_glyphs");
+    public static final int WIDTH = 256;
+    public static final int HEIGHT = 512;
+    private static final int SOURCE_SIZE = 256;
+    private static final int BUTTON_SIZE = 15;
+    private static final int AXIS_SIZE = 18;
+    // Y offsets of the strips in the block of a controller type.
+    private static final int BUTTONS_STRIP = 0;
+    private static final int EXPANDED_STRIP = BUTTON_SIZE;
+    private static final int AXIS_STRIP = BUTTON_SIZE + AXIS_SIZE;
+    private static final int BLOCK_HEIGHT = BUTTON_SIZE + 2 * AXIS_SIZE;
+    // Buttons 0 to 18, then the axes as positive buttons, then the axes as negative buttons.
+    private static final int CODES = 19 + 2 * 6;
+    private static final int[] GLYPH_U = new int[ControllerType.values().length * CODES];
+    private static final int[] GLYPH_V = new int[GLYPH_U.length];
+    private static final int[] GLYPH_SIZE = new int[GLYPH_U.length];
+
+    static {
+        for (var type : ControllerType.values()) {
+            int blockY = type.ordinal() * BLOCK_HEIGHT;
+            for (int code = 0; code < CODES; code++) {
+                int button = code < 19 ? code : code < 25 ? code - 19 + 100 : code - 25 + 200;
+                buildGlyph(type.ordinal() * CODES + code, button, blockY);
+            }
+        }
+    }
+
+    private static void buildGlyph(int glyph, int button, int blockY) {
+        boolean axis = false;
+        int buttonOffset = button * 15;
+        switch (button) {
+            case 15 -> buttonOffset = 0;
+            case 16 -> buttonOffset = 18;
+            case 17 -> buttonOffset = 36;
+            case 18 -> buttonOffset = 54;
+            case GLFW.GLFW_GAMEPAD_BUTTON_LEFT_BUMPER -> buttonOffset = 7 * 15;
+            case GLFW.GLFW_GAMEPAD_BUTTON_RIGHT_BUMPER -> buttonOffset = 8 * 15;
+            case GLFW.GLFW_GAMEPAD_BUTTON_BACK -> buttonOffset = 4 * 15;
+            case GLFW.GLFW_GAMEPAD_BUTTON_START -> buttonOffset = 6 * 15;
+            case GLFW.GLFW_GAMEPAD_BUTTON_GUIDE -> buttonOffset = 5 * 15;
+            case GLFW.GLFW_GAMEPAD_BUTTON_LEFT_THUMB -> buttonOffset = 15 * 15;
+            case GLFW.GLFW_GAMEPAD_BUTTON_RIGHT_THUMB -> buttonOffset = 16 * 15;
+            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_X + 100 -> {
+                buttonOffset = 0;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y + 100 -> {
+                buttonOffset = 18;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_X + 100 -> {
+                buttonOffset = 2 * 18;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_Y + 100 -> {
+                buttonOffset = 3 * 18;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_X + 200 -> {
+                buttonOffset = 4 * 18;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y + 200 -> {
+                buttonOffset = 5 * 18;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_X + 200 -> {
+                buttonOffset = 6 * 18;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_Y + 200 -> {
+                buttonOffset = 7 * 18;
+                axis = true;
+            }
+            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER + 100, GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER + 200 -> buttonOffset = 9 * 15;
+            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER + 100, GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER + 200 -> buttonOffset = 10 * 15;
+        }
+        boolean expanded = button >= 15 && button <= 18;
+
+        GLYPH_U[glyph] = buttonOffset;
+        GLYPH_V[glyph] = blockY + (axis ? AXIS_STRIP : expanded ? EXPANDED_STRIP : BUTTONS_STRIP);
+        GLYPH_SIZE[glyph] = axis || expanded ? AXIS_SIZE : BUTTON_SIZE;
+    }
+
+    /**
+     * Gets the glyph of the specified button.
+     *
+     * @param type the controller type
+     * @param button the button code, without the second controller offset
+     * @return the glyph, or {@code -1} if the button has no glyph
+     */
+    public static int getGlyph(@NotNull ControllerType type, int button) {
+        int code;
+        if (button >= 0 && button < 19)
+            code = button;
+        else if (button >= 100 && button < 106)
+            code = button - 100 + 19;
+        else if (button >= 200 && button < 206)
+            code = button - 200 + 25;
+        else
+            return -1;
+        return type.ordinal() * CODES + code;
+    }
+
+    public static int getU(int glyph) {
+        return GLYPH_U[glyph];
+    }
+
+    public static int getV(int glyph) {
+        return GLYPH_V[glyph];
+    }
+
+    public static int getSize(int glyph) {
+        return GLYPH_SIZE[glyph];
+    }
+
+    @Override
+    public Identifier getFabricId() {
+        return TEXTURE;
+    }
+
+    @Override
+    public void reload(ResourceManager manager) {
+        try (var buttons = read(manager, MidnightControlsClient.CONTROLLER_BUTTONS);
+             var expanded = read(manager, MidnightControlsClient.CONTROLLER_EXPANDED);
+             var axis = read(manager, MidnightControlsClient.CONTROLLER_AXIS)) {
+            // Keep the resolution of the highest resolution texture.
+            int scale = Math.max(1, Math.max(buttons.getWidth(), Math.max(expanded.getWidth(), axis.getWidth())) / SOURCE_SIZE);
+            var atlas = new NativeImage(WIDTH * scale, HEIGHT * scale, true);
+            for (var type : ControllerType.values()) {
+                int blockY = type.ordinal() * BLOCK_HEIGHT;
+                copyStrip(buttons, type.ordinal() * BUTTON_SIZE, BUTTON_SIZE, atlas, blockY + BUTTONS_STRIP, scale);
+                copyStrip(expanded, type.ordinal() * AXIS_SIZE, AXIS_SIZE, atlas, blockY + EXPANDED_STRIP, scale);
+                copyStrip(axis, type.ordinal() * AXIS_SIZE, AXIS_SIZE, atlas, blockY + AXIS_STRIP, scale);
+            }
+            MinecraftClient.getInstance().getTextureManager().registerTexture(TEXTURE, new NativeImageBackedTexture(atlas));
+        } catch (IOException e) {
+            MidnightControlsClient.get().warn("Failed to build the controller glyph atlas: " + e.getMessage());
+        }
+    }
+
+    private static @NotNull NativeImage read(@NotNull ResourceManager manager, @NotNull Identifier id) throws IOException {
+        try (var resource = manager.getResource(id)) {
+            return NativeImage.read(resource.getInputStream());
+        }
+    }
+
+    /**
+     * Copies a full width strip of the source texture into the atlas, with nearest neighbor scaling.
+     */
+    private static void copyStrip(@NotNull NativeImage source, int sourceY, int height, @NotNull NativeImage atlas, int atlasY, int scale) {
+        int sourceScale = Math.max(1, source.getWidth() / SOURCE_SIZE);
+        for (int y = 0; y < height * scale; y++) {
+            int fromY = (sourceY * scale + y) * sourceScale / scale;
+            if (fromY >= source.getHeight())
+                break;
+            for (int x = 0; x < WIDTH * scale; x++) {
+                int fromX = x * sourceScale / scale;
+                if (fromX >= source.getWidth())
+                    break;
+                atlas.setColor(x, atlasY * scale + y, source.getColor(fromX, fromY));
+            }
+        }
+    }
+}
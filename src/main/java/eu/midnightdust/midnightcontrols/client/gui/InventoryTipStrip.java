@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.gui;
+
+import eu.midnightdust.midnightcontrols.client.compat.CompatHandler;
+import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.ingame.HandledScreen;
+import net.minecraft.client.resource.language.I18n;
+import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.ArrayList;
+
+/**
+ * Represents the strip of action tips drawn at the bottom of the handled screens.
+ * <p>
+ * The translated tips and their positions are computed when the screen is initialized,
+ * and again if the language changes, so drawing the strip does not translate, measure nor allocate.
+ */
+public final class InventoryTipStrip {
+    private static final int[] PICKUP_ALL = new int[]{GLFW.GLFW_GAMEPAD_BUTTON_A};
+    private static final int[] EXIT = new int[]{GLFW.GLFW_GAMEPAD_BUTTON_B};
+    private static final int[] PICKUP = new int[]{GLFW.GLFW_GAMEPAD_BUTTON_X};
+    private static final int[] QUICK_MOVE = new int[]{GLFW.GLFW_GAMEPAD_BUTTON_Y};
+    private static final int TIP_COLOR = 14737632;
+    private final String language;
+    private final int[][] buttons;
+    private final String[] texts;
+    private final int[] iconX;
+    private final int[] iconY;
+    private final int[] textX;
+    private final int[] textY;
+
+    private InventoryTipStrip(@NotNull String language, int count) {
+        this.language = language;
+        this.buttons = new int[count][];
+        this.texts = new String[count];
+        this.iconX = new int[count];
+        this.iconY = new int[count];
+        this.textX = new int[count];
+        this.textY = new int[count];
+    }
+
+    /**
+     * Builds the tip strip of the specified screen.
+     *
+     * @param screen the screen
+     * @param client the client instance
+     * @return the tip strip
+     */
+    public static @NotNull InventoryTipStrip build(@NotNull HandledScreen<?> screen, @NotNull MinecraftClient client) {
+        var tips = new ArrayList<CompatHandler.InventoryTip>();
+        tips.add(new CompatHandler.InventoryTip(PICKUP_ALL, "midnightcontrols.action.pickup_all"));
+        tips.add(new CompatHandler.InventoryTip(EXIT, "midnightcontrols.action.exit"));
+        // REI draws its own overlay at the bottom left, the next tips go on a second line.
+        int lineBreak = MidnightControlsCompat.isReiPresent() ? tips.size() : -1;
+        tips.add(new CompatHandler.InventoryTip(PICKUP, "midnightcontrols.action.pickup"));
+        tips.add(new CompatHandler.InventoryTip(QUICK_MOVE, "midnightcontrols.action.quick_move"));
+        MidnightControlsCompat.addInventoryTips(screen, tips);
+
+        var strip = new InventoryTipStrip(client.getLanguageManager().getLanguage().getCode(), tips.size());
+        var textRenderer = client.textRenderer;
+        int textOffset = (MidnightControlsRenderer.ICON_SIZE / 2 - textRenderer.fontHeight / 2) + 1;
+        int x = 2, y = client.getWindow().getScaledHeight() - 2 - MidnightControlsRenderer.ICON_SIZE;
+        for (int i = 0; i < tips.size(); i++) {
+            if (i == lineBreak) {
+                x = 2;
+                y -= 24;
+            }
+            var tip = tips.get(i);
+            strip.buttons[i] = tip.buttons();
+            strip.texts[i] = I18n.translate(tip.action());
+            strip.iconX[i] = x;
+            strip.iconY[i] = y;
+            strip.textX[i] = x + MidnightControlsRenderer.getBindingIconWidth(tip.buttons()) + 2;
+            strip.textY[i] = y + textOffset;
+            // The shadow adds one pixel to the text width.
+            x = strip.textX[i] + textRenderer.getWidth(strip.texts[i]) + 1 + 2;
+        }
+        return strip;
+    }
+
+    /**
+     * Returns whether this strip is still valid, it becomes invalid when the language changes.
+     *
+     * @param client the client instance
+     * @return true if this strip is valid, else false
+     */
+    public boolean isValid(@NotNull MinecraftClient client) {
+        return this.language.equals(client.getLanguageManager().getLanguage().getCode());
+    }
+
+    /**
+     * Renders this strip.
+     *
+     * @param matrices the matrices
+     * @param client the client instance
+     */
+    public void render(@NotNull MatrixStack matrices, @NotNull MinecraftClient client) {
+        ButtonIconBatch.begin();
+        for (int i = 0; i < this.buttons.length; i++)
+            MidnightControlsRenderer.drawButton(matrices, this.iconX[i], this.iconY[i], this.buttons[i], client);
+        ButtonIconBatch.end();
+        for (int i = 0; i < this.texts.length; i++)
+            client.textRenderer.drawWithShadow(matrices, this.texts[i], (float) this.textX[i], (float) this.textY[i], TIP_COLOR);
+    }
+}
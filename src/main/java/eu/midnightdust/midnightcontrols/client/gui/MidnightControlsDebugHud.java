@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.gui;
+
+import eu.midnightdust.midnightcontrols.MidnightControlsConstants;
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.controller.ButtonStateTable;
+import eu.midnightdust.midnightcontrols.client.controller.InputManager;
+import eu.midnightdust.midnightcontrols.client.profiler.TickProfiler;
+import dev.lambdaurora.spruceui.hud.Hud;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the debug overlay of the controller input: tick timings, allocations, axis values, button states and fired bindings.
+ * <p>
+ * The overlay is hidden by default, the {@link TickProfiler} only runs while it is visible.
+ */
+public class MidnightControlsDebugHud extends Hud {
+    private static final String[] PHASE_NAMES = new String[]{"Poll", "State update", "Binding resolution", "Action dispatch", "Tick"};
+    private static final int COLOR = 0xe0e0e0;
+    private static final int BACKGROUND = 0x90505050;
+    private MinecraftClient client;
+
+    public MidnightControlsDebugHud() {
+        super(new Identifier(MidnightControlsConstants.NAMESPACE, "hud/debug"));
+    }
+
+    @Override
+    public void init(@NotNull MinecraftClient client, int screenWidth, int screenHeight) {
+        super.init(client, screenWidth, screenHeight);
+        this.client = client;
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        super.setVisible(visible);
+        TickProfiler.setEnabled(visible);
+    }
+
+    /**
+     * Toggles the visibility of the overlay.
+     */
+    public void toggle() {
+        this.setVisible(!TickProfiler.isEnabled());
+    }
+
+    @Override
+    public void render(MatrixStack matrices, float tickDelta) {
+        // The vanilla debug screen is drawn at the same place.
+        if (!TickProfiler.isEnabled() || this.client.options.debugEnabled)
+            return;
+
+        int y = 2;
+        y = this.drawLine(matrices, String.format("MidnightControls [%d ticks]", TickProfiler.getTicks()), y);
+        for (int phase = 0; phase < TickProfiler.PHASES; phase++) {
+            y = this.drawLine(matrices, String.format("%s: %.1f µs (avg %.1f µs, max %.1f µs)", PHASE_NAMES[phase],
+                    TickProfiler.getLast(phase) / 1000.f, TickProfiler.getAverage(phase) / 1000.f, TickProfiler.getMax(phase) / 1000.f), y);
+        }
+        if (TickProfiler.hasAllocations())
+            y = this.drawLine(matrices, String.format("Allocated: %d B/tick (avg %d B)", TickProfiler.getLastAllocation(), TickProfiler.getAverageAllocation()), y);
+        else
+            y = this.drawLine(matrices, "Allocated: unsupported", y);
+
+        y = this.drawAxes(matrices, "Axes", false, y);
+        if (MidnightControlsConfig.getSecondController().isPresent())
+            y = this.drawAxes(matrices, "Axes (2)", true, y);
+
+        int controllerSize = ButtonStateTable.SIZE / 2;
+        y = this.drawLine(matrices, "States: " + this.states(0, controllerSize), y);
+        y = this.drawLine(matrices, "States (2): " + this.states(controllerSize, ButtonStateTable.SIZE), y);
+
+        var fired = new StringBuilder("Fired:");
+        for (int i = 0; i < TickProfiler.getFiredCount(); i++)
+            fired.append(' ').append(TickProfiler.getFired(i).getName());
+        this.drawLine(matrices, fired.toString(), y);
+    }
+
+    private int drawAxes(MatrixStack matrices, String label, boolean second, int y) {
+        return this.drawLine(matrices, String.format("%s: L %+.2f %+.2f  R %+.2f %+.2f  T %.2f %.2f", label,
+                TickProfiler.getAxis(0, second), TickProfiler.getAxis(1, second),
+                TickProfiler.getAxis(2, second), TickProfiler.getAxis(3, second),
+                TickProfiler.getAxis(4, second), TickProfiler.getAxis(5, second)), y);
+    }
+
+    /**
+     * Gets the states of the buttons between the specified dense indices,
+     * one character per button: {@code .} none, {@code P} press, {@code H} repeat and {@code R} release.
+     */
+    private String states(int from, int to) {
+        var builder = new StringBuilder(to - from);
+        for (int index = from; index < to; index++) {
+            builder.append(switch (InputManager.STATES.getByIndex(index)) {
+                case NONE -> '.';
+                case PRESS -> 'P';
+                case REPEAT -> 'H';
+                case RELEASE -> 'R';
+            });
+        }
+        return builder.toString();
+    }
+
+    private int drawLine(MatrixStack matrices, String line, int y) {
+        int width = this.client.textRenderer.getWidth(line);
+        fill(matrices, 1, y - 1, 2 + width + 1, y + this.client.textRenderer.fontHeight - 1, BACKGROUND);
+        this.client.textRenderer.draw(matrices, line, 2.f, (float) y, COLOR);
+        return y + this.client.textRenderer.fontHeight;
+    }
+}
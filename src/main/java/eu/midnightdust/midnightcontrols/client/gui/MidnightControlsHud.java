@@ -16,6 +16,7 @@ import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.profiler.HudTickEvent;
 import dev.lambdaurora.spruceui.hud.Hud;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.resource.language.I18n;
@@ -26,7 +27,6 @@ import net.minecraft.util.Identifier;
 import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.hit.HitResult;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents the midnightcontrols HUD.
@@ -36,22 +36,36 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0.0
  */
 public class MidnightControlsHud extends Hud {
+    private static final int INVENTORY = 0;
+    private static final int SWAP_HANDS = 1;
+    private static final int DROP_ITEM = 2;
+    private static final int USE = 3;
+    private static final int ATTACK = 4;
+    private static final int TIPS = 5;
+    private static final int TIP_COLOR = 14737632;
     private final MidnightControlsClient mod;
     private MinecraftClient client;
-    private int attackWidth = 0;
-    private int attackButtonWidth = 0;
-    private int dropItemWidth = 0;
-    private int dropItemButtonWidth = 0;
-    private int inventoryWidth = 0;
-    private int inventoryButtonWidth = 0;
-    private int swapHandsWidth = 0;
-    private int swapHandsButtonWidth = 0;
-    private int useWidth = 0;
-    private int useButtonWidth = 0;
     private BlockHitResult placeHitResult;
     private String attackAction = "";
     private String placeAction = "";
     private int ticksDisplayedCrosshair = 0;
+    // Layout of the tips, computed when one of its inputs changes.
+    private final int[] iconX = new int[TIPS];
+    private final int[] iconY = new int[TIPS];
+    private final int[] tipX = new int[TIPS];
+    private final int[] tipY = new int[TIPS];
+    private final String[] tipTexts = new String[TIPS];
+    private final int[][] layoutButtons = new int[TIPS][];
+    private boolean layoutDirty = true;
+    private HudSide layoutSide;
+    private String layoutLanguage;
+    private boolean layoutSubtitles;
+    private boolean layoutUnicodeFont;
+    private int layoutWidth;
+    private int layoutHeight;
+    private String layoutAttackAction;
+    private String layoutPlaceAction;
+    private boolean attackDisplayed;
 
     public MidnightControlsHud(@NotNull MidnightControlsClient mod) {
         super(new Identifier(MidnightControlsConstants.NAMESPACE, "hud/button_indicator"));
@@ -62,14 +76,7 @@ public class MidnightControlsHud extends Hud {
     public void init(@NotNull MinecraftClient client, int screenWidth, int screenHeight) {
         super.init(client, screenWidth, screenHeight);
         this.client = client;
-        this.inventoryWidth = this.width(ButtonBinding.INVENTORY);
-        this.inventoryButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.INVENTORY);
-        this.swapHandsWidth = this.width(ButtonBinding.SWAP_HANDS);
-        this.swapHandsButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.SWAP_HANDS);
-        this.dropItemWidth = this.width(ButtonBinding.DROP_ITEM);
-        this.dropItemButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.DROP_ITEM);
-        this.attackButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.ATTACK);
-        this.useButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.USE);
+        this.layoutDirty = true;
     }
 
     /**
@@ -78,11 +85,20 @@ public class MidnightControlsHud extends Hud {
     @Override
     public void render(MatrixStack matrices, float tickDelta) {
         if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER && this.client.currentScreen == null) {
-            int y = bottom(2);
-            this.renderFirstIcons(matrices, MidnightControlsConfig.hudSide == HudSide.LEFT ? 2 : client.getWindow().getScaledWidth() - 2, y);
-            this.renderSecondIcons(matrices, MidnightControlsConfig.hudSide == HudSide.RIGHT ? 2 : client.getWindow().getScaledWidth() - 2, y);
-            this.renderFirstSection(matrices, MidnightControlsConfig.hudSide == HudSide.LEFT ? 2 : client.getWindow().getScaledWidth() - 2, y);
-            this.renderSecondSection(matrices, MidnightControlsConfig.hudSide == HudSide.RIGHT ? 2 : client.getWindow().getScaledWidth() - 2, y);
+            if (this.isLayoutOutdated())
+                this.updateLayout();
+
+            boolean holding = !this.client.player.getMainHandStack().isEmpty();
+            ButtonIconBatch.begin();
+            for (int tip = 0; tip < TIPS; tip++) {
+                if (this.isDisplayed(tip, holding))
+                    MidnightControlsRenderer.drawButton(matrices, this.iconX[tip], this.iconY[tip], getBinding(tip), this.client);
+            }
+            ButtonIconBatch.end();
+            for (int tip = 0; tip < TIPS; tip++) {
+                if (this.isDisplayed(tip, holding))
+                    this.client.textRenderer.draw(matrices, this.tipTexts[tip], (float) this.tipX[tip], (float) this.tipY[tip], TIP_COLOR);
+            }
         }
 
         if (this.mod.reacharound.isLastReacharoundVertical()) {
@@ -99,82 +115,167 @@ public class MidnightControlsHud extends Hud {
         }
     }
 
-    public void renderFirstIcons(MatrixStack matrices, int x, int y) {
-        int offset = 2 + this.inventoryWidth + this.inventoryButtonWidth + 4;
-        int currentX = MidnightControlsConfig.hudSide == HudSide.LEFT ? x : x - this.inventoryButtonWidth;
-        this.drawButton(matrices, currentX, y, ButtonBinding.INVENTORY, true);
-        this.drawButton(matrices, currentX += (MidnightControlsConfig.hudSide == HudSide.LEFT ? offset : -offset), y, ButtonBinding.SWAP_HANDS, true);
-        offset = 2 + this.swapHandsWidth + this.dropItemButtonWidth + 4;
-        if (this.client.options.showSubtitles && MidnightControlsConfig.hudSide == HudSide.RIGHT) {
+    private static @NotNull ButtonBinding getBinding(int tip) {
+        return switch (tip) {
+            case INVENTORY -> ButtonBinding.INVENTORY;
+            case SWAP_HANDS -> ButtonBinding.SWAP_HANDS;
+            case DROP_ITEM -> ButtonBinding.DROP_ITEM;
+            case USE -> ButtonBinding.USE;
+            default -> ButtonBinding.ATTACK;
+        };
+    }
+
+    private boolean isDisplayed(int tip, boolean holding) {
+        return switch (tip) {
+            case DROP_ITEM -> holding;
+            case USE -> !this.layoutPlaceAction.isEmpty();
+            case ATTACK -> this.attackDisplayed;
+            default -> true;
+        };
+    }
+
+    /**
+     * Returns whether one of the inputs of the layout changed since it was computed.
+     *
+     * @return true if the layout must be computed again, else false
+     */
+    private boolean isLayoutOutdated() {
+        if (this.layoutDirty)
+            return true;
+        for (int tip = 0; tip < TIPS; tip++) {
+            if (getBinding(tip).getButton() != this.layoutButtons[tip])
+                return true;
+        }
+        var window = this.client.getWindow();
+        return MidnightControlsConfig.hudSide != this.layoutSide
+                || !this.client.getLanguageManager().getLanguage().getCode().equals(this.layoutLanguage)
+                || this.client.options.showSubtitles != this.layoutSubtitles
+                || this.client.options.forceUnicodeFont != this.layoutUnicodeFont
+                || window.getScaledWidth() != this.layoutWidth || window.getScaledHeight() != this.layoutHeight
+                || !this.attackAction.equals(this.layoutAttackAction) || !this.placeAction.equals(this.layoutPlaceAction);
+    }
+
+    /**
+     * Computes the translated texts and the positions of the tips.
+     */
+    private void updateLayout() {
+        var window = this.client.getWindow();
+        this.layoutDirty = false;
+        for (int tip = 0; tip < TIPS; tip++)
+            this.layoutButtons[tip] = getBinding(tip).getButton();
+        this.layoutSide = MidnightControlsConfig.hudSide;
+        this.layoutLanguage = this.client.getLanguageManager().getLanguage().getCode();
+        this.layoutSubtitles = this.client.options.showSubtitles;
+        this.layoutUnicodeFont = this.client.options.forceUnicodeFont;
+        this.layoutWidth = window.getScaledWidth();
+        this.layoutHeight = window.getScaledHeight();
+        this.layoutAttackAction = this.attackAction;
+        this.layoutPlaceAction = this.placeAction;
+
+        var widths = new int[TIPS];
+        var buttonWidths = new int[TIPS];
+        for (int tip = 0; tip < TIPS; tip++) {
+            var action = switch (tip) {
+                case USE -> this.placeAction;
+                case ATTACK -> this.attackAction;
+                default -> getBinding(tip).getTranslationKey();
+            };
+            this.tipTexts[tip] = action.isEmpty() ? "" : I18n.translate(action);
+            widths[tip] = this.client.textRenderer.getWidth(this.tipTexts[tip]);
+            buttonWidths[tip] = MidnightControlsRenderer.getBindingIconWidth(getBinding(tip));
+        }
+        this.attackDisplayed = widths[ATTACK] != 0;
+
+        boolean left = this.layoutSide == HudSide.LEFT;
+        boolean subtitles = this.layoutSubtitles;
+        int textY = (MidnightControlsRenderer.ICON_SIZE / 2 - this.client.textRenderer.fontHeight / 2) + 1;
+        int bottom = this.layoutHeight - 2 - MidnightControlsRenderer.ICON_SIZE;
+        int firstX = left ? 2 : this.layoutWidth - 2;
+        int secondX = left ? this.layoutWidth - 2 : 2;
+
+        // Inventory, swap hands and drop item on the first side.
+        int y = bottom;
+        int offset = 2 + widths[INVENTORY] + buttonWidths[INVENTORY] + 4;
+        int currentX = left ? firstX : firstX - buttonWidths[INVENTORY];
+        this.setIcon(INVENTORY, currentX, y);
+        this.setIcon(SWAP_HANDS, currentX += (left ? offset : -offset), y);
+        offset = 2 + widths[SWAP_HANDS] + buttonWidths[DROP_ITEM] + 4;
+        if (subtitles && !left) {
             currentX += -offset;
         } else {
-            currentX = MidnightControlsConfig.hudSide == HudSide.LEFT ? x : x - this.dropItemButtonWidth;
+            currentX = left ? firstX : firstX - buttonWidths[DROP_ITEM];
             y -= 24;
         }
-        this.drawButton(matrices, currentX, y, ButtonBinding.DROP_ITEM, !this.client.player.getMainHandStack().isEmpty());
-    }
+        this.setIcon(DROP_ITEM, currentX, y);
+
+        y = bottom;
+        currentX = left ? firstX + buttonWidths[INVENTORY] + 2 : firstX - buttonWidths[INVENTORY] - 2 - widths[INVENTORY];
+        this.setTip(INVENTORY, currentX, y + textY);
+        currentX += left ? widths[INVENTORY] + 4 + buttonWidths[SWAP_HANDS] + 2
+                : -widths[SWAP_HANDS] - 2 - buttonWidths[SWAP_HANDS] - 4;
+        this.setTip(SWAP_HANDS, currentX, y + textY);
+        if (subtitles && !left) {
+            currentX += -widths[DROP_ITEM] - 2 - buttonWidths[DROP_ITEM] - 4;
+        } else {
+            y -= 24;
+            currentX = left ? firstX + buttonWidths[DROP_ITEM] + 2 : firstX - buttonWidths[DROP_ITEM] - 2 - widths[DROP_ITEM];
+        }
+        this.setTip(DROP_ITEM, currentX, y + textY);
 
-    public void renderSecondIcons(MatrixStack matrices, int x, int y) {
-        int offset;
-        int currentX = x;
+        // Use and attack on the second side.
+        y = bottom;
+        currentX = secondX;
         if (!this.placeAction.isEmpty()) {
-            if (MidnightControlsConfig.hudSide == HudSide.LEFT)
-                currentX -= this.useButtonWidth;
-            this.drawButton(matrices, currentX, y, ButtonBinding.USE, true);
-            offset = 2 + this.useWidth + 4;
-            if (this.client.options.showSubtitles && MidnightControlsConfig.hudSide == HudSide.LEFT) {
-                currentX -= offset;
+            if (left)
+                currentX -= buttonWidths[USE];
+            this.setIcon(USE, currentX, y);
+            if (subtitles && left) {
+                currentX -= 2 + widths[USE] + 4;
             } else {
-                currentX = x;
+                currentX = secondX;
                 y -= 24;
             }
         }
+        if (left)
+            currentX -= buttonWidths[ATTACK];
+        this.setIcon(ATTACK, currentX, y);
 
-        if (MidnightControlsConfig.hudSide == HudSide.LEFT)
-            currentX -= this.attackButtonWidth;
-
-        this.drawButton(matrices, currentX, y, ButtonBinding.ATTACK, this.attackWidth != 0);
-    }
-
-    public void renderFirstSection(MatrixStack matrices, int x, int y) {
-        int currentX = MidnightControlsConfig.hudSide == HudSide.LEFT ? x + this.inventoryButtonWidth + 2 : x - this.inventoryButtonWidth - 2 - this.inventoryWidth;
-        this.drawTip(matrices, currentX, y, ButtonBinding.INVENTORY, true);
-        currentX += MidnightControlsConfig.hudSide == HudSide.LEFT ? this.inventoryWidth + 4 + this.swapHandsButtonWidth + 2
-                : -this.swapHandsWidth - 2 - this.swapHandsButtonWidth - 4;
-        this.drawTip(matrices, currentX, y, ButtonBinding.SWAP_HANDS, true);
-        if (this.client.options.showSubtitles && MidnightControlsConfig.hudSide == HudSide.RIGHT) {
-            currentX += -this.dropItemWidth - 2 - this.dropItemButtonWidth - 4;
-        } else {
-            y -= 24;
-            currentX = MidnightControlsConfig.hudSide == HudSide.LEFT ? x + this.dropItemButtonWidth + 2 : x - this.dropItemButtonWidth - 2 - this.dropItemWidth;
-        }
-        this.drawTip(matrices, currentX, y, ButtonBinding.DROP_ITEM, !this.client.player.getMainHandStack().isEmpty());
-    }
-
-    public void renderSecondSection(MatrixStack matrices, int x, int y) {
-        int currentX = x;
-
+        y = bottom;
+        currentX = secondX;
         if (!this.placeAction.isEmpty()) {
-            currentX += MidnightControlsConfig.hudSide == HudSide.RIGHT ? this.useButtonWidth + 2 : -this.useButtonWidth - 2 - this.useWidth;
-
-            this.drawTip(matrices, currentX, y, this.placeAction, true);
-
-            if (this.client.options.showSubtitles && MidnightControlsConfig.hudSide == HudSide.LEFT) {
+            currentX += !left ? buttonWidths[USE] + 2 : -buttonWidths[USE] - 2 - widths[USE];
+            this.setTip(USE, currentX, y + textY);
+            if (subtitles && left) {
                 currentX -= 4;
             } else {
-                currentX = x;
+                currentX = secondX;
                 y -= 24;
             }
         }
+        currentX += !left ? buttonWidths[ATTACK] + 2 : -buttonWidths[ATTACK] - 2 - widths[ATTACK];
+        this.setTip(ATTACK, currentX, y + textY);
+    }
 
-        currentX += MidnightControlsConfig.hudSide == HudSide.RIGHT ? this.attackButtonWidth + 2 : -this.attackButtonWidth - 2 - this.attackWidth;
+    private void setIcon(int tip, int x, int y) {
+        this.iconX[tip] = x;
+        this.iconY[tip] = y;
+    }
 
-        this.drawTip(matrices, currentX, y, this.attackAction, this.attackWidth != 0);
+    private void setTip(int tip, int x, int y) {
+        this.tipX[tip] = x;
+        this.tipY[tip] = y;
     }
 
     @Override
     public void tick() {
         super.tick();
+        var event = new HudTickEvent();
+        event.begin();
+        this.updateTips();
+        event.commit();
+    }
+
+    private void updateTips() {
         if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER) {
             if (this.client.crosshairTarget == null)
                 return;
@@ -185,7 +286,6 @@ public class MidnightControlsHud extends Hud {
             if (this.client.crosshairTarget.getType() == HitResult.Type.MISS) {
                 this.placeHitResult = this.mod.reacharound.getLastReacharoundResult();
                 this.attackAction = "";
-                this.attackWidth = 0;
             } else {
                 if (this.client.crosshairTarget.getType() == HitResult.Type.BLOCK)
                     this.placeHitResult = (BlockHitResult) this.client.crosshairTarget;
@@ -193,7 +293,6 @@ public class MidnightControlsHud extends Hud {
                     this.placeHitResult = null;
 
                 this.attackAction = this.client.crosshairTarget.getType() == HitResult.Type.BLOCK ? "midnightcontrols.action.hit" : ButtonBinding.ATTACK.getTranslationKey();
-                this.attackWidth = this.width(attackAction);
             }
 
             if (this.mod.reacharound.isLastReacharoundVertical()) {
@@ -204,10 +303,8 @@ public class MidnightControlsHud extends Hud {
             }
 
             var customAttackAction = MidnightControlsCompat.getAttackActionAt(this.client, this.placeHitResult);
-            if (customAttackAction != null) {
+            if (customAttackAction != null)
                 this.attackAction = customAttackAction;
-                this.attackWidth = this.width(customAttackAction);
-            }
 
             ItemStack stack = null;
             if (this.client.player != null) {
@@ -230,12 +327,6 @@ public class MidnightControlsHud extends Hud {
                 placeAction = customUseAction;
 
             this.placeAction = placeAction;
-
-            // Cache the "Use" tip width.
-            if (this.placeAction.isEmpty())
-                this.useWidth = 0;
-            else
-                this.useWidth = this.width(this.placeAction);
         }
     }
 
@@ -243,35 +334,4 @@ public class MidnightControlsHud extends Hud {
     public boolean hasTicks() {
         return true;
     }
-
-    private int bottom(int y) {
-        return this.client.getWindow().getScaledHeight() - y - MidnightControlsRenderer.ICON_SIZE;
-    }
-
-    private int width(@NotNull ButtonBinding binding) {
-        return this.width(binding.getTranslationKey());
-    }
-
-    private int width(@Nullable String text) {
-        if (text == null || text.isEmpty())
-            return 0;
-        return this.client.textRenderer.getWidth(I18n.translate(text));
-    }
-
-    private void drawButton(MatrixStack matrices, int x, int y, @NotNull ButtonBinding button, boolean display) {
-        if (display)
-            MidnightControlsRenderer.drawButton(matrices, x, y, button, this.client);
-    }
-
-    private void drawTip(MatrixStack matrices, int x, int y, @NotNull ButtonBinding button, boolean display) {
-        this.drawTip(matrices, x, y, button.getTranslationKey(), display);
-    }
-
-    private void drawTip(MatrixStack matrices, int x, int y, @NotNull String action, boolean display) {
-        if (!display)
-            return;
-        var translatedAction = I18n.translate(action);
-        int textY = (MidnightControlsRenderer.ICON_SIZE / 2 - this.client.textRenderer.fontHeight / 2) + 1;
-        this.client.textRenderer.draw(matrices, translatedAction, (float) x, (float) (y + textY), 14737632);
-    }
 }
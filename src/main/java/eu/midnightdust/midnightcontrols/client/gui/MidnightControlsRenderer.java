@@ -13,15 +13,15 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.MidnightInput;
-import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.profiler.VirtualCursorRenderEvent;
 import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.HoveredSlotCache;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.resource.language.I18n;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.screen.slot.Slot;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.glfw.GLFW;
 
@@ -83,6 +83,7 @@ public class MidnightControlsRenderer {
         int height = 0;
         int length = 0;
         int currentX = x;
+        ButtonIconBatch.begin();
         for (int i = 0; i < buttons.length; i++) {
             int btn = buttons[i];
             int size = drawButton(matrices, currentX, y, btn, client);
@@ -94,6 +95,7 @@ public class MidnightControlsRenderer {
                 currentX = x + length;
             }
         }
+        ButtonIconBatch.end();
         return new ButtonSize(length, height);
     }
 
@@ -102,73 +104,17 @@ public class MidnightControlsRenderer {
         if (button == -1)
             return 0;
         else if (button >= 500) {
-            button -= 1000;
+            button -= 500;
             second = true;
         }
 
-        int controllerType = MidnightControlsConfig.controllerType.getId();
-        boolean axis = false;
-        int buttonOffset = button * 15;
-        switch (button) {
-            case 15 -> buttonOffset = 0;
-            case 16 -> buttonOffset = 18;
-            case 17 -> buttonOffset = 36;
-            case 18 -> buttonOffset = 54;
-            case GLFW.GLFW_GAMEPAD_BUTTON_LEFT_BUMPER -> buttonOffset = 7 * 15;
-            case GLFW.GLFW_GAMEPAD_BUTTON_RIGHT_BUMPER -> buttonOffset = 8 * 15;
-            case GLFW.GLFW_GAMEPAD_BUTTON_BACK -> buttonOffset = 4 * 15;
-            case GLFW.GLFW_GAMEPAD_BUTTON_START -> buttonOffset = 6 * 15;
-            case GLFW.GLFW_GAMEPAD_BUTTON_GUIDE -> buttonOffset = 5 * 15;
-            case GLFW.GLFW_GAMEPAD_BUTTON_LEFT_THUMB -> buttonOffset = 15 * 15;
-            case GLFW.GLFW_GAMEPAD_BUTTON_RIGHT_THUMB -> buttonOffset = 16 * 15;
-            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_X + 100 -> {
-                buttonOffset = 0;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y + 100 -> {
-                buttonOffset = 18;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_X + 100 -> {
-                buttonOffset = 2 * 18;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_Y + 100 -> {
-                buttonOffset = 3 * 18;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_X + 200 -> {
-                buttonOffset = 4 * 18;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y + 200 -> {
-                buttonOffset = 5 * 18;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_X + 200 -> {
-                buttonOffset = 6 * 18;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_Y + 200 -> {
-                buttonOffset = 7 * 18;
-                axis = true;
-            }
-            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER + 100, GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER + 200 -> buttonOffset = 9 * 15;
-            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER + 100, GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER + 200 -> buttonOffset = 10 * 15;
+        int glyph = ControllerGlyphAtlas.getGlyph(MidnightControlsConfig.controllerType, button);
+        if (glyph != -1) {
+            int assetSize = ControllerGlyphAtlas.getSize(glyph);
+            ButtonIconBatch.add(matrices, x + (ICON_SIZE / 2 - assetSize / 2), y + (ICON_SIZE / 2 - assetSize / 2),
+                    (float) ControllerGlyphAtlas.getU(glyph), (float) ControllerGlyphAtlas.getV(glyph), assetSize, second);
         }
 
-        RenderSystem.setShaderTexture(0, axis ? MidnightControlsClient.CONTROLLER_AXIS : button >= 15 && button <= 19 ? MidnightControlsClient.CONTROLLER_EXPANDED :MidnightControlsClient.CONTROLLER_BUTTONS);
-        RenderSystem.disableDepthTest();
-
-        int assetSize = axis || (button >= 15 && button <= 18) ? AXIS_SIZE : BUTTON_SIZE;
-
-        RenderSystem.setShaderColor(1.f, second ? 0.f : 1.f, 1.f, 1.f);
-        DrawableHelper.drawTexture(matrices, x + (ICON_SIZE / 2 - assetSize / 2), y + (ICON_SIZE / 2 - assetSize / 2),
-                (float) buttonOffset, (float) (controllerType * assetSize),
-                assetSize, assetSize,
-                256, 256);
-        RenderSystem.enableDepthTest();
-
         return ICON_SIZE;
     }
 
@@ -198,26 +144,22 @@ public class MidnightControlsRenderer {
                 || MidnightInput.isScreenInteractive(client.currentScreen)))
             return;
 
-        int mouseX = (int) (client.mouse.getX() * (double) client.getWindow().getScaledWidth() / (double) client.getWindow().getWidth());
-        int mouseY = (int) (client.mouse.getY() * (double) client.getWindow().getScaledHeight() / (double) client.getWindow().getHeight());
+        var event = new VirtualCursorRenderEvent();
+        event.begin();
+        var hoveredSlot = HoveredSlotCache.getSlot(client);
+        int mouseX = (int) HoveredSlotCache.getMouseX();
+        int mouseY = (int) HoveredSlotCache.getMouseY();
 
         boolean hoverSlot = false;
 
-        if (client.currentScreen instanceof HandledScreenAccessor inventoryScreen) {
-            int guiLeft = inventoryScreen.getX();
-            int guiTop = inventoryScreen.getY();
-
-            Slot slot = inventoryScreen.midnightcontrols$getSlotAt(mouseX, mouseY);
-
-            if (slot != null) {
-                mouseX = guiLeft + slot.x;
-                mouseY = guiTop + slot.y;
-                hoverSlot = true;
-            }
+        if (hoveredSlot != null && client.currentScreen instanceof HandledScreenAccessor inventoryScreen) {
+            mouseX = inventoryScreen.getX() + hoveredSlot.x;
+            mouseY = inventoryScreen.getY() + hoveredSlot.y;
+            hoverSlot = true;
         }
 
         if (!hoverSlot) {
-            var slot = MidnightControlsCompat.getSlotAt(client.currentScreen, mouseX, mouseY);
+            var slot = HoveredSlotCache.getCompatSlot(client);
 
             if (slot != null) {
                 mouseX = slot.x();
@@ -232,6 +174,7 @@ public class MidnightControlsRenderer {
         }
 
         drawCursor(matrices, mouseX, mouseY, hoverSlot, client);
+        event.commit();
     }
 
     /**
@@ -12,6 +12,7 @@ package eu.midnightdust.midnightcontrols.client.gui;
 import eu.midnightdust.midnightcontrols.MidnightControls;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.controller.AnalogResponse;
 import eu.midnightdust.midnightcontrols.client.controller.Controller;
 import eu.midnightdust.midnightcontrols.client.gui.widget.ControllerControlsWidget;
 import dev.lambdaurora.spruceui.Position;
@@ -37,6 +38,9 @@ import net.minecraft.util.Formatting;
 import net.minecraft.util.Util;
 import org.lwjgl.glfw.GLFW;
 
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * Represents the midnightcontrols settings screen.
  */
@@ -106,10 +110,23 @@ public class MidnightControlsSettingsScreen extends SpruceScreen {
             }).orElse(option.getDisplayText(SpruceTexts.OPTIONS_OFF.shallowCopy().formatted(Formatting.RED))),
             new TranslatableText("midnightcontrols.tooltip.controller2"));
     private final SpruceOption unfocusedInputOption;
+    private final SpruceOption pollingRateOption;
+    private final SpruceOption frameRateCameraOption;
+    private final SpruceOption cameraSmoothingOption;
+    private final SpruceOption cameraSmoothingMinCutoffOption;
+    private final SpruceOption cameraSmoothingBetaOption;
     private final SpruceOption invertsRightXAxis;
     private final SpruceOption invertsRightYAxis;
     private final SpruceOption rightDeadZoneOption;
     private final SpruceOption leftDeadZoneOption;
+    private final SpruceOption rightDeadZoneShapeOption;
+    private final SpruceOption leftDeadZoneShapeOption;
+    private final SpruceOption rightOuterDeadZoneOption;
+    private final SpruceOption leftOuterDeadZoneOption;
+    private final SpruceOption rightAntiDeadZoneOption;
+    private final SpruceOption leftAntiDeadZoneOption;
+    private final SpruceOption rightResponseCurveOption;
+    private final SpruceOption leftResponseCurveOption;
     private final SpruceOption[] maxAnalogValueOptions = new SpruceOption[]{
             maxAnalogValueOption("midnightcontrols.menu.max_left_x_value", GLFW.GLFW_GAMEPAD_AXIS_LEFT_X),
             maxAnalogValueOption("midnightcontrols.menu.max_left_y_value", GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y),
@@ -120,7 +137,21 @@ public class MidnightControlsSettingsScreen extends SpruceScreen {
     private static SpruceOption maxAnalogValueOption(String key, int axis) {
         return new SpruceDoubleOption(key, .25f, 1.f, 0.05f,
                 () -> MidnightControlsConfig.getAxisMaxValue(axis),
-                newValue -> MidnightControlsConfig.setAxisMaxValue(axis, newValue),
+                newValue -> {
+                    MidnightControlsConfig.setAxisMaxValue(axis, newValue);
+                    AnalogResponse.rebuild();
+                },
+                option -> option.getDisplayText(new LiteralText(String.format("%.2f", option.get()))),
+                new TranslatableText(key.replace("menu", "tooltip"))
+        );
+    }
+
+    private static SpruceOption analogValueOption(String key, double max, Supplier<Double> getter, Consumer<Double> setter) {
+        return new SpruceDoubleOption(key, 0.0, max, .05f, getter,
+                value -> {
+                    setter.accept(value);
+                    AnalogResponse.rebuild();
+                },
                 option -> option.getDisplayText(new LiteralText(String.format("%.2f", option.get()))),
                 new TranslatableText(key.replace("menu", "tooltip"))
         );
@@ -211,22 +242,84 @@ public class MidnightControlsSettingsScreen extends SpruceScreen {
         // Controller options
         this.rightDeadZoneOption = new SpruceDoubleOption("midnightcontrols.menu.right_dead_zone", 0.05, 1.0, .05f,
                 () -> MidnightControlsConfig.rightDeadZone,
-                value -> MidnightControlsConfig.rightDeadZone = value, option -> {
+                value -> {
+                    MidnightControlsConfig.rightDeadZone = value;
+                    AnalogResponse.rebuild();
+                }, option -> {
             var value = String.valueOf(option.get());
             return option.getDisplayText(new LiteralText(value.substring(0, Math.min(value.length(), 5))));
         }, new TranslatableText("midnightcontrols.tooltip.right_dead_zone"));
         this.leftDeadZoneOption = new SpruceDoubleOption("midnightcontrols.menu.left_dead_zone", 0.05, 1.0, .05f,
                 () -> MidnightControlsConfig.leftDeadZone,
-                value -> MidnightControlsConfig.leftDeadZone = value, option -> {
+                value -> {
+                    MidnightControlsConfig.leftDeadZone = value;
+                    AnalogResponse.rebuild();
+                }, option -> {
             var value = String.valueOf(option.get());
             return option.getDisplayText(new LiteralText(value.substring(0, Math.min(value.length(), 5))));
         }, new TranslatableText("midnightcontrols.tooltip.left_dead_zone"));
+        this.rightDeadZoneShapeOption = new SpruceCyclingOption("midnightcontrols.menu.right_dead_zone_shape",
+                amount -> {
+                    MidnightControlsConfig.rightDeadZoneShape = MidnightControlsConfig.rightDeadZoneShape.next();
+                    AnalogResponse.rebuild();
+                },
+                option -> option.getDisplayText(MidnightControlsConfig.rightDeadZoneShape.getTranslatedText()),
+                new TranslatableText("midnightcontrols.tooltip.dead_zone_shape"));
+        this.leftDeadZoneShapeOption = new SpruceCyclingOption("midnightcontrols.menu.left_dead_zone_shape",
+                amount -> {
+                    MidnightControlsConfig.leftDeadZoneShape = MidnightControlsConfig.leftDeadZoneShape.next();
+                    AnalogResponse.rebuild();
+                },
+                option -> option.getDisplayText(MidnightControlsConfig.leftDeadZoneShape.getTranslatedText()),
+                new TranslatableText("midnightcontrols.tooltip.dead_zone_shape"));
+        this.rightOuterDeadZoneOption = analogValueOption("midnightcontrols.menu.right_outer_dead_zone", .5,
+                () -> MidnightControlsConfig.rightOuterDeadZone, value -> MidnightControlsConfig.rightOuterDeadZone = value);
+        this.leftOuterDeadZoneOption = analogValueOption("midnightcontrols.menu.left_outer_dead_zone", .5,
+                () -> MidnightControlsConfig.leftOuterDeadZone, value -> MidnightControlsConfig.leftOuterDeadZone = value);
+        this.rightAntiDeadZoneOption = analogValueOption("midnightcontrols.menu.right_anti_dead_zone", .5,
+                () -> MidnightControlsConfig.rightAntiDeadZone, value -> MidnightControlsConfig.rightAntiDeadZone = value);
+        this.leftAntiDeadZoneOption = analogValueOption("midnightcontrols.menu.left_anti_dead_zone", .5,
+                () -> MidnightControlsConfig.leftAntiDeadZone, value -> MidnightControlsConfig.leftAntiDeadZone = value);
+        this.rightResponseCurveOption = new SpruceCyclingOption("midnightcontrols.menu.right_response_curve",
+                amount -> {
+                    MidnightControlsConfig.rightResponseCurve = MidnightControlsConfig.rightResponseCurve.next();
+                    AnalogResponse.rebuild();
+                },
+                option -> option.getDisplayText(MidnightControlsConfig.rightResponseCurve.getTranslatedText()),
+                new TranslatableText("midnightcontrols.tooltip.response_curve"));
+        this.leftResponseCurveOption = new SpruceCyclingOption("midnightcontrols.menu.left_response_curve",
+                amount -> {
+                    MidnightControlsConfig.leftResponseCurve = MidnightControlsConfig.leftResponseCurve.next();
+                    AnalogResponse.rebuild();
+                },
+                option -> option.getDisplayText(MidnightControlsConfig.leftResponseCurve.getTranslatedText()),
+                new TranslatableText("midnightcontrols.tooltip.response_curve"));
         this.invertsRightXAxis = new SpruceToggleBooleanOption("midnightcontrols.menu.invert_right_x_axis", () -> MidnightControlsConfig.invertRightXAxis,
                 value -> MidnightControlsConfig.invertRightXAxis = value, null);
         this.invertsRightYAxis = new SpruceToggleBooleanOption("midnightcontrols.menu.invert_right_y_axis", () -> MidnightControlsConfig.invertRightYAxis,
                 value -> MidnightControlsConfig.invertRightYAxis = value, null);
         this.unfocusedInputOption = new SpruceToggleBooleanOption("midnightcontrols.menu.unfocused_input", () -> MidnightControlsConfig.unfocusedInput,
                 value -> MidnightControlsConfig.unfocusedInput = value, new TranslatableText("midnightcontrols.tooltip.unfocused_input"));
+        this.pollingRateOption = new SpruceDoubleOption("midnightcontrols.menu.polling_rate", 0.0, 1000.0, 50.f,
+                () -> (double) MidnightControlsConfig.pollingRate,
+                value -> MidnightControlsConfig.pollingRate = value.intValue(),
+                option -> option.getDisplayText(MidnightControlsConfig.pollingRate == 0 ? SpruceTexts.OPTIONS_OFF
+                        : new LiteralText(MidnightControlsConfig.pollingRate + " Hz")),
+                new TranslatableText("midnightcontrols.tooltip.polling_rate"));
+        this.frameRateCameraOption = new SpruceToggleBooleanOption("midnightcontrols.menu.frame_rate_camera", () -> MidnightControlsConfig.frameRateCamera,
+                value -> MidnightControlsConfig.frameRateCamera = value, new TranslatableText("midnightcontrols.tooltip.frame_rate_camera"));
+        this.cameraSmoothingOption = new SpruceToggleBooleanOption("midnightcontrols.menu.camera_smoothing", () -> MidnightControlsConfig.cameraSmoothing,
+                value -> MidnightControlsConfig.cameraSmoothing = value, new TranslatableText("midnightcontrols.tooltip.camera_smoothing"));
+        this.cameraSmoothingMinCutoffOption = new SpruceDoubleOption("midnightcontrols.menu.camera_smoothing_min_cutoff", 0.1, 10.0, .1f,
+                () -> MidnightControlsConfig.cameraSmoothingMinCutoff,
+                value -> MidnightControlsConfig.cameraSmoothingMinCutoff = value,
+                option -> option.getDisplayText(new LiteralText(String.format("%.1f Hz", option.get()))),
+                new TranslatableText("midnightcontrols.tooltip.camera_smoothing_min_cutoff"));
+        this.cameraSmoothingBetaOption = new SpruceDoubleOption("midnightcontrols.menu.camera_smoothing_beta", 0.0, 5.0, .05f,
+                () -> MidnightControlsConfig.cameraSmoothingBeta,
+                value -> MidnightControlsConfig.cameraSmoothingBeta = value,
+                option -> option.getDisplayText(new LiteralText(String.format("%.2f", option.get()))),
+                new TranslatableText("midnightcontrols.tooltip.camera_smoothing_beta"));
         this.virtualMouseOption = new SpruceToggleBooleanOption("midnightcontrols.menu.virtual_mouse", () -> MidnightControlsConfig.virtualMouse,
                 value -> MidnightControlsConfig.virtualMouse = value, new TranslatableText("midnightcontrols.tooltip.virtual_mouse"));
     }
@@ -348,9 +441,17 @@ public class MidnightControlsSettingsScreen extends SpruceScreen {
         list.addSingleOptionEntry(this.controllerOption);
         list.addSingleOptionEntry(this.secondControllerOption);
         list.addSingleOptionEntry(this.unfocusedInputOption);
+        list.addSingleOptionEntry(this.pollingRateOption);
+        list.addSingleOptionEntry(this.frameRateCameraOption);
+        list.addSingleOptionEntry(this.cameraSmoothingOption);
+        list.addOptionEntry(this.cameraSmoothingMinCutoffOption, this.cameraSmoothingBetaOption);
         list.addOptionEntry(this.invertsRightXAxis, this.invertsRightYAxis);
         list.addSingleOptionEntry(this.rightDeadZoneOption);
         list.addSingleOptionEntry(this.leftDeadZoneOption);
+        list.addOptionEntry(this.rightDeadZoneShapeOption, this.leftDeadZoneShapeOption);
+        list.addOptionEntry(this.rightOuterDeadZoneOption, this.leftOuterDeadZoneOption);
+        list.addOptionEntry(this.rightAntiDeadZoneOption, this.leftAntiDeadZoneOption);
+        list.addOptionEntry(this.rightResponseCurveOption, this.leftResponseCurveOption);
         for (var option : this.maxAnalogValueOptions) {
             list.addSingleOptionEntry(option);
         }
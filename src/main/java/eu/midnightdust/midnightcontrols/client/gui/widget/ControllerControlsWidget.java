@@ -24,7 +24,6 @@ import org.aperlambda.lambdacommon.utils.function.Predicates;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Represents the controls screen.
@@ -52,7 +51,7 @@ public class ControllerControlsWidget extends SpruceContainerWidget {
         this.addChild(this.bindingsListWidget);
         this.addChild(this.resetButton = new SpruceButtonWidget(Position.of(this, this.width / 2 - 155, this.height - 29), 150, 20,
                 SpruceTexts.CONTROLS_RESET_ALL,
-                btn -> InputManager.streamBindings().collect(Collectors.toSet()).forEach(binding -> MidnightControlsConfig.setButtonBinding(binding, binding.getDefaultButton()))));
+                btn -> InputManager.streamBindings().forEach(binding -> MidnightControlsConfig.setButtonBinding(binding, binding.getDefaultButton()))));
     }
 
     @Override
@@ -14,6 +14,7 @@ import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonCategory;
 import eu.midnightdust.midnightcontrols.client.controller.InputManager;
+import eu.midnightdust.midnightcontrols.client.gui.ButtonIconBatch;
 import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.SpruceTexts;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
@@ -254,7 +255,10 @@ public class ControlsListWidget extends SpruceEntryListWidget<ControlsListWidget
                 this.editButton.setMessage(text.formatted(Formatting.GOLD));
             }
 
+            // The icons are drawn before the list scissor ends.
+            ButtonIconBatch.begin();
             this.children.forEach(widget -> widget.render(matrices, mouseX, mouseY, delta));
+            ButtonIconBatch.end();
         }
     }
 
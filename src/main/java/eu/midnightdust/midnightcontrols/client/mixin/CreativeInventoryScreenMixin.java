@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.mixin;
+
+import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
+import net.minecraft.client.gui.screen.ingame.CreativeInventoryScreen;
+import net.minecraft.item.ItemGroup;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Invalidates the slot grid of the creative inventory when its tab changes, as the slots are replaced.
+ */
+@Mixin(CreativeInventoryScreen.class)
+public class CreativeInventoryScreenMixin {
+    @Inject(method = "setSelectedTab", at = @At("RETURN"))
+    private void onSetSelectedTab(ItemGroup group, CallbackInfo ci) {
+        ((HandledScreenAccessor) this).midnightcontrols$invalidateSlotGrid();
+    }
+}
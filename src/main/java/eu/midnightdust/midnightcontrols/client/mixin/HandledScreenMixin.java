@@ -12,17 +12,22 @@ package eu.midnightdust.midnightcontrols.client.mixin;
 import eu.midnightdust.midnightcontrols.ControlsMode;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.MidnightInput;
-import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
-import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsRenderer;
+import eu.midnightdust.midnightcontrols.client.gui.InventoryTipStrip;
 import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.HoveredSlotCache;
+import eu.midnightdust.midnightcontrols.client.util.SlotGrid;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.screen.ScreenHandler;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.lwjgl.glfw.GLFW;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 import org.spongepowered.asm.mixin.injection.At;
@@ -34,6 +39,14 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
  */
 @Mixin(HandledScreen.class)
 public abstract class HandledScreenMixin implements HandledScreenAccessor {
+    @Shadow
+    @Final
+    protected ScreenHandler handler;
+
+    @Unique
+    private SlotGrid midnightcontrols$slotGrid;
+    @Unique
+    private InventoryTipStrip midnightcontrols$tipStrip;
 
     @Accessor("x")
     public abstract int getX();
@@ -51,20 +64,34 @@ public abstract class HandledScreenMixin implements HandledScreenAccessor {
     @Invoker("onMouseClick")
     public abstract void midnightcontrols$onMouseClick(@Nullable Slot slot, int slotId, int clickData, SlotActionType actionType);
 
+    @Override
+    public @NotNull SlotGrid midnightcontrols$getSlotGrid() {
+        // Some screens add or remove slots while they are open.
+        if (this.midnightcontrols$slotGrid == null || !this.midnightcontrols$slotGrid.matches(this.handler.slots))
+            this.midnightcontrols$slotGrid = new SlotGrid(this.handler.slots);
+        return this.midnightcontrols$slotGrid;
+    }
+
+    @Override
+    public void midnightcontrols$invalidateSlotGrid() {
+        this.midnightcontrols$slotGrid = null;
+        HoveredSlotCache.invalidate();
+    }
+
+    @Inject(method = "init", at = @At("RETURN"))
+    private void onInit(CallbackInfo ci) {
+        this.midnightcontrols$slotGrid = new SlotGrid(this.handler.slots);
+        this.midnightcontrols$tipStrip = null;
+        HoveredSlotCache.invalidate();
+    }
+
     @Inject(method = "render", at = @At("RETURN"))
     public void onRender(MatrixStack matrices, int mouseX, int mouseY, float delta, CallbackInfo ci) {
         if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER) {
             var client = MinecraftClient.getInstance();
-            int x = 2, y = client.getWindow().getScaledHeight() - 2 - MidnightControlsRenderer.ICON_SIZE;
-
-            x = MidnightControlsRenderer.drawButtonTip(matrices, x, y, new int[]{GLFW.GLFW_GAMEPAD_BUTTON_A}, "midnightcontrols.action.pickup_all", true, client) + 2;
-            x = MidnightControlsRenderer.drawButtonTip(matrices, x, y, new int[]{GLFW.GLFW_GAMEPAD_BUTTON_B}, "midnightcontrols.action.exit", true, client) + 2;
-            if (MidnightControlsCompat.isReiPresent()) {
-                x = 2;
-                y -= 24;
-            }
-            x = MidnightControlsRenderer.drawButtonTip(matrices, x, y, new int[]{GLFW.GLFW_GAMEPAD_BUTTON_X}, "midnightcontrols.action.pickup", true, client) + 2;
-            MidnightControlsRenderer.drawButtonTip(matrices, x, y, new int[]{GLFW.GLFW_GAMEPAD_BUTTON_Y}, "midnightcontrols.action.quick_move", true, client);
+            if (this.midnightcontrols$tipStrip == null || !this.midnightcontrols$tipStrip.isValid(client))
+                this.midnightcontrols$tipStrip = InventoryTipStrip.build((HandledScreen<?>) (Object) this, client);
+            this.midnightcontrols$tipStrip.render(matrices, client);
         }
     }
 }
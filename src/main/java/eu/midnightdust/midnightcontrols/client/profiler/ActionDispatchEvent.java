@@ -0,0 +1,25 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import jdk.jfr.*;
+
+/**
+ * Represents the dispatch of the actions of the bindings which changed.
+ */
+@Name("midnightcontrols.ActionDispatch")
+@Label("Action Dispatch")
+@Category({"MidnightControls", "Input"})
+@StackTrace(false)
+public final class ActionDispatchEvent extends Event {
+    @Label("Actions")
+    @Description("The count of handled bindings.")
+    public int actions;
+}
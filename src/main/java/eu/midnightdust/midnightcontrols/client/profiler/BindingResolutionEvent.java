@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import jdk.jfr.*;
+
+/**
+ * Represents the resolution of the binding states from the button states.
+ */
+@Name("midnightcontrols.BindingResolution")
+@Label("Binding Resolution")
+@Category({"MidnightControls", "Input"})
+@StackTrace(false)
+public final class BindingResolutionEvent extends Event {
+    @Label("Bindings")
+    @Description("The count of registered bindings.")
+    public int bindings;
+
+    @Label("Candidates")
+    @Description("The count of evaluated bindings.")
+    public int candidates;
+}
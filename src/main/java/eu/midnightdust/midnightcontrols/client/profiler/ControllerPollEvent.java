@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import jdk.jfr.*;
+
+/**
+ * Represents the poll of the controllers, either a sub-tick sample or the read of a controller tick.
+ */
+@Name("midnightcontrols.ControllerPoll")
+@Label("Controller Poll")
+@Category({"MidnightControls", "Input"})
+@StackTrace(false)
+public final class ControllerPollEvent extends Event {
+    @Label("Controllers")
+    @Description("The count of polled controllers.")
+    public int controllers;
+
+    @Label("Sampled")
+    @Description("Whether the poll is a sub-tick sample.")
+    public boolean sampled;
+}
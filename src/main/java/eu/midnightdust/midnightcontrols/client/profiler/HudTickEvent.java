@@ -0,0 +1,22 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import jdk.jfr.*;
+
+/**
+ * Represents the tick of the controller HUD.
+ */
+@Name("midnightcontrols.HudTick")
+@Label("HUD Tick")
+@Category({"MidnightControls", "Rendering"})
+@StackTrace(false)
+public final class HudTickEvent extends Event {
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.controller.ButtonStateTable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Represents the input latency probes, from the first observation of a button press to the press of the vanilla key binding.
+ * <p>
+ * A press goes through three stages:
+ * <ol>
+ *     <li>the edge: the button is first seen pressed while fetching the controller input</li>
+ *     <li>the resolution: the dispatch resolves the chord of a binding as pressed</li>
+ *     <li>the key binding press: the default action presses the vanilla key binding</li>
+ * </ol>
+ * The latencies from the edge to the two following stages are recorded per binding.
+ * The probes only run while {@link MidnightControlsConfig#debug} is enabled.
+ */
+public final class InputLatency {
+    private static final long[] EDGES = new long[ButtonStateTable.SIZE];
+    private static final Map<ButtonBinding, BindingLatency> BINDINGS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private InputLatency() {
+        throw new UnsupportedOperationException("InputLatency only contains static definitions.");
+    }
+
+    public static boolean isEnabled() {
+        return MidnightControlsConfig.debug;
+    }
+
+    /**
+     * Marks the press of the specified button as first observed now.
+     *
+     * @param button the button code
+     */
+    public static void onEdge(int button) {
+        int index = ButtonStateTable.indexOf(button);
+        if (index != -1)
+            EDGES[index] = System.nanoTime();
+    }
+
+    /**
+     * Marks the press of the specified binding as resolved now.
+     * The edge of the press is the latest edge of its buttons, which completed the chord.
+     *
+     * @param binding the binding
+     */
+    public static void onResolve(@NotNull ButtonBinding binding) {
+        long edge = 0L;
+        for (int button : binding.getButton()) {
+            int index = ButtonStateTable.indexOf(button);
+            if (index != -1 && (edge == 0L || EDGES[index] - edge > 0))
+                edge = EDGES[index];
+        }
+        if (edge == 0L)
+            return;
+
+        var latency = BINDINGS.computeIfAbsent(binding, b -> new BindingLatency());
+        latency.edge = edge;
+        latency.resolve.record(System.nanoTime() - edge);
+    }
+
+    /**
+     * Marks the vanilla key binding of the specified binding as pressed now.
+     *
+     * @param binding the binding
+     */
+    public static void onKeyBindingPress(@NotNull ButtonBinding binding) {
+        var latency = BINDINGS.get(binding);
+        if (latency == null || latency.edge == 0L)
+            return;
+        latency.keyBinding.record(System.nanoTime() - latency.edge);
+        latency.edge = 0L;
+    }
+
+    /**
+     * Gets the latency histograms of every binding which was pressed.
+     *
+     * @return the latencies per binding
+     */
+    public static @NotNull Map<ButtonBinding, BindingLatency> getLatencies() {
+        synchronized (BINDINGS) {
+            return Map.copyOf(BINDINGS);
+        }
+    }
+
+    /**
+     * Resets every latency histogram.
+     */
+    public static void reset() {
+        BINDINGS.clear();
+    }
+
+    /**
+     * Represents the latencies of a binding.
+     */
+    public static final class BindingLatency {
+        private final LatencyHistogram resolve = new LatencyHistogram();
+        private final LatencyHistogram keyBinding = new LatencyHistogram();
+        private long edge = 0L;
+
+        /**
+         * Gets the latencies from the edge to the resolution of the binding.
+         *
+         * @return the histogram
+         */
+        public @NotNull LatencyHistogram getResolveLatency() {
+            return this.resolve;
+        }
+
+        /**
+         * Gets the latencies from the edge to the press of the vanilla key binding.
+         *
+         * @return the histogram
+         */
+        public @NotNull LatencyHistogram getKeyBindingLatency() {
+            return this.keyBinding;
+        }
+    }
+}
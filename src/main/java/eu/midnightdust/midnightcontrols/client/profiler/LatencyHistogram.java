@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents a lock-free histogram of latencies in nanoseconds.
+ * <p>
+ * Buckets are log-linear: each power of two is split in {@value #SUB_BUCKETS} linear sub-buckets,
+ * so any recorded value is known within about 6% up to about 18 minutes.
+ * Recording never allocates and may happen from any thread.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 36;
+    private static final long MAX_VALUE = (1L << (MAX_SHIFT + SUB_BUCKET_BITS + 1)) - 1;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_SHIFT + 1) * SUB_BUCKETS;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) Math.max(value, 0);
+        value = Math.min(value, MAX_VALUE);
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    static long valueAt(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        // Middle of the bucket.
+        return ((long) (SUB_BUCKETS | sub) << shift) + ((1L << shift) >> 1);
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        this.counts.incrementAndGet(indexOf(nanos));
+        this.count.incrementAndGet();
+        this.sum.addAndGet(nanos);
+        this.max.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getCount() {
+        return this.count.get();
+    }
+
+    public long getMax() {
+        return this.max.get();
+    }
+
+    public long getMean() {
+        long count = this.count.get();
+        return count == 0 ? 0 : this.sum.get() / count;
+    }
+
+    /**
+     * Gets the latency at the specified percentile.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the latency in nanoseconds, or {@code 0} if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = this.count.get();
+        if (count == 0)
+            return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= target)
+                return Math.min(valueAt(i), this.max.get());
+        }
+        return this.max.get();
+    }
+
+    /**
+     * Resets this histogram, values recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            this.counts.set(i, 0);
+        this.count.set(0);
+        this.sum.set(0);
+        this.max.set(0);
+    }
+}
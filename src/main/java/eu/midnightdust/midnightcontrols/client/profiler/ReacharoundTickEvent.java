@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import jdk.jfr.*;
+
+/**
+ * Represents the reacharound raycast of a client tick.
+ */
+@Name("midnightcontrols.ReacharoundTick")
+@Label("Reacharound Tick")
+@Category({"MidnightControls", "Gameplay"})
+@StackTrace(false)
+public final class ReacharoundTickEvent extends Event {
+    @Label("Found")
+    @Description("Whether a reacharound target was found.")
+    public boolean found;
+
+    @Label("Vertical")
+    @Description("Whether the reacharound target is vertical.")
+    public boolean vertical;
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import jdk.jfr.*;
+
+/**
+ * Represents the update of the button states from the controller states.
+ */
+@Name("midnightcontrols.StateUpdate")
+@Label("State Update")
+@Category({"MidnightControls", "Input"})
+@StackTrace(false)
+public final class StateUpdateEvent extends Event {
+    @Label("Pressed Buttons")
+    @Description("The count of pressed buttons after the update.")
+    public int pressedButtons;
+}
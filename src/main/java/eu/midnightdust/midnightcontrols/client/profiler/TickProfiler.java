@@ -0,0 +1,273 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.profiler;
+
+import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.controller.GamepadState;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Represents the profiler of the controller ticks displayed by the debug overlay.
+ * <p>
+ * The timings of each phase and the bytes allocated by each tick are kept in a ring buffer of the last {@link #HISTORY} ticks,
+ * along with the axis values after the dead zone processing and the bindings fired during the last tick.
+ * The probes only run while the profiler is enabled, which is the case while the debug overlay is visible.
+ */
+public final class TickProfiler {
+    public static final int POLL = 0;
+    public static final int STATE_UPDATE = 1;
+    public static final int BINDING_RESOLUTION = 2;
+    public static final int ACTION_DISPATCH = 3;
+    public static final int TICK = 4;
+    public static final int PHASES = 5;
+    public static final int HISTORY = 128;
+    private static final int MAX_FIRED = 16;
+    private static final com.sun.management.ThreadMXBean THREADS = getThreadBean();
+    // Ring buffer of the last ticks, a row of PHASES timings per tick.
+    private static final long[] TIMINGS = new long[HISTORY * PHASES];
+    private static final long[] ALLOCATIONS = new long[HISTORY];
+    private static final long[] CURRENT = new long[PHASES];
+    private static final float[] AXES = new float[GamepadState.AXIS_COUNT * 2];
+    private static final ButtonBinding[] FIRED = new ButtonBinding[MAX_FIRED];
+    private static final ButtonBinding[] LAST_FIRED = new ButtonBinding[MAX_FIRED];
+    private static boolean enabled = false;
+    private static int head = 0;
+    private static int ticks = 0;
+    private static long tickStart = 0L;
+    private static long allocationStart = 0L;
+    private static int fired = 0;
+    private static int lastFired = 0;
+
+    private TickProfiler() {
+        throw new UnsupportedOperationException("TickProfiler only contains static definitions.");
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the profiler is enabled, the history is cleared when it is enabled.
+     *
+     * @param enabled true if the profiler is enabled, else false
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && !TickProfiler.enabled) {
+            Arrays.fill(TIMINGS, 0L);
+            Arrays.fill(ALLOCATIONS, 0L);
+            Arrays.fill(AXES, 0.f);
+            Arrays.fill(LAST_FIRED, null);
+            head = 0;
+            ticks = 0;
+            lastFired = 0;
+        }
+        TickProfiler.enabled = enabled;
+    }
+
+    /**
+     * Returns whether the allocated bytes are measured, which depends on the JVM.
+     *
+     * @return true if the allocations are measured, else false
+     */
+    public static boolean hasAllocations() {
+        return THREADS != null;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    /**
+     * Starts the profiling of a controller tick.
+     */
+    public static void beginTick() {
+        if (!enabled)
+            return;
+        Arrays.fill(CURRENT, 0L);
+        fired = 0;
+        allocationStart = allocatedBytes();
+        tickStart = System.nanoTime();
+    }
+
+    /**
+     * Ends the profiling of a controller tick and stores it in the history.
+     */
+    public static void endTick() {
+        if (!enabled || tickStart == 0L)
+            return;
+        CURRENT[TICK] = System.nanoTime() - tickStart;
+        tickStart = 0L;
+        System.arraycopy(CURRENT, 0, TIMINGS, head * PHASES, PHASES);
+        ALLOCATIONS[head] = allocatedBytes() - allocationStart;
+        System.arraycopy(FIRED, 0, LAST_FIRED, 0, fired);
+        Arrays.fill(FIRED, 0, fired, null);
+        lastFired = fired;
+        head = (head + 1) % HISTORY;
+        if (ticks < HISTORY)
+            ticks++;
+    }
+
+    /**
+     * Starts the profiling of a phase.
+     *
+     * @return the start time to give to {@link #end(int, long)}
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Ends the profiling of a phase, a phase may run several times during a tick.
+     *
+     * @param phase the phase
+     * @param start the start time returned by {@link #begin()}
+     */
+    public static void end(int phase, long start) {
+        if (enabled && start != 0L)
+            CURRENT[phase] += System.nanoTime() - start;
+    }
+
+    /**
+     * Records the value of the specified axis after the dead zone processing.
+     *
+     * @param axis the axis, may be an axis of the second controller
+     * @param value the value of the axis
+     */
+    public static void onAxis(int axis, float value) {
+        int index = axis < GamepadState.AXIS_COUNT ? axis : GamepadState.AXIS_COUNT + axis - ButtonBinding.controller2Button(0);
+        if (index >= 0 && index < AXES.length)
+            AXES[index] = value;
+    }
+
+    /**
+     * Records the specified binding as fired during the current tick.
+     *
+     * @param binding the binding
+     */
+    public static void onFired(@NotNull ButtonBinding binding) {
+        if (fired < MAX_FIRED)
+            FIRED[fired++] = binding;
+    }
+
+    /**
+     * Gets the count of profiled ticks in the history.
+     *
+     * @return the count of ticks
+     */
+    public static int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the time spent in the specified phase during the last tick.
+     *
+     * @param phase the phase
+     * @return the time in nanoseconds
+     */
+    public static long getLast(int phase) {
+        if (ticks == 0)
+            return 0L;
+        return TIMINGS[((head + HISTORY - 1) % HISTORY) * PHASES + phase];
+    }
+
+    /**
+     * Gets the average time spent in the specified phase over the history.
+     *
+     * @param phase the phase
+     * @return the time in nanoseconds
+     */
+    public static long getAverage(int phase) {
+        if (ticks == 0)
+            return 0L;
+        long sum = 0L;
+        for (int i = 0; i < ticks; i++)
+            sum += TIMINGS[i * PHASES + phase];
+        return sum / ticks;
+    }
+
+    /**
+     * Gets the maximum time spent in the specified phase over the history.
+     *
+     * @param phase the phase
+     * @return the time in nanoseconds
+     */
+    public static long getMax(int phase) {
+        long max = 0L;
+        for (int i = 0; i < ticks; i++)
+            max = Math.max(max, TIMINGS[i * PHASES + phase]);
+        return max;
+    }
+
+    /**
+     * Gets the bytes allocated during the last tick.
+     *
+     * @return the allocated bytes
+     */
+    public static long getLastAllocation() {
+        if (ticks == 0)
+            return 0L;
+        return ALLOCATIONS[(head + HISTORY - 1) % HISTORY];
+    }
+
+    /**
+     * Gets the average bytes allocated per tick over the history.
+     *
+     * @return the allocated bytes
+     */
+    public static long getAverageAllocation() {
+        if (ticks == 0)
+            return 0L;
+        long sum = 0L;
+        for (int i = 0; i < ticks; i++)
+            sum += ALLOCATIONS[i];
+        return sum / ticks;
+    }
+
+    /**
+     * Gets the last value of the specified axis after the dead zone processing.
+     *
+     * @param axis the axis
+     * @param second true if the axis is of the second controller, else false
+     * @return the value of the axis
+     */
+    public static float getAxis(int axis, boolean second) {
+        return AXES[second ? GamepadState.AXIS_COUNT + axis : axis];
+    }
+
+    /**
+     * Gets the count of bindings fired during the last tick.
+     *
+     * @return the count of bindings
+     */
+    public static int getFiredCount() {
+        return lastFired;
+    }
+
+    /**
+     * Gets a binding fired during the last tick.
+     *
+     * @param index the index of the binding
+     * @return the binding
+     */
+    public static @NotNull ButtonBinding getFired(int index) {
+        return LAST_FIRED[index];
+    }
+}
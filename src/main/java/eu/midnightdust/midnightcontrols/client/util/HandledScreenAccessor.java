@@ -11,6 +11,7 @@ package eu.midnightdust.midnightcontrols.client.util;
 
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -51,4 +52,16 @@ public interface HandledScreenAccessor {
      * @param actionType the action type
      */
     void midnightcontrols$onMouseClick(@Nullable Slot slot, int slotId, int clickData, SlotActionType actionType);
+
+    /**
+     * Gets the spatial index of the slots of the screen, built when the screen is initialized.
+     *
+     * @return the slot grid
+     */
+    @NotNull SlotGrid midnightcontrols$getSlotGrid();
+
+    /**
+     * Invalidates the spatial index of the slots, it is rebuilt on the next query.
+     */
+    void midnightcontrols$invalidateSlotGrid();
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.util;
+
+import eu.midnightdust.midnightcontrols.client.compat.CompatHandler;
+import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.screen.slot.Slot;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the cache of the slot hovered by the cursor, shared by the virtual cursor renderer and the inventory interactions.
+ * <p>
+ * The slot is resolved again only when the screen, its slots, its GUI origin or the cursor position change,
+ * when the cached slot is disabled, or when the cache is invalidated through {@link #invalidate()}.
+ */
+public final class HoveredSlotCache {
+    private static Screen screen;
+    // The slot grid is rebuilt when the slots of the screen change.
+    private static SlotGrid grid;
+    // The GUI origin moves without a new slot grid, e.g. when the recipe book is toggled.
+    private static int originX;
+    private static int originY;
+    private static double mouseX;
+    private static double mouseY;
+    private static Slot slot;
+    private static CompatHandler.SlotPos compatSlot;
+    private static boolean compatResolved;
+
+    private HoveredSlotCache() {
+        throw new UnsupportedOperationException("HoveredSlotCache only contains static definitions.");
+    }
+
+    /**
+     * Resolves the hovered slot of the current screen at the cursor position, if it is not already cached.
+     *
+     * @param client the client instance
+     * @return the current screen, or {@code null} if there is none
+     */
+    private static @Nullable Screen resolve(@NotNull MinecraftClient client) {
+        var current = client.currentScreen;
+        if (current == null)
+            return null;
+        double x = client.mouse.getX() * (double) client.getWindow().getScaledWidth() / (double) client.getWindow().getWidth();
+        double y = client.mouse.getY() * (double) client.getWindow().getScaledHeight() / (double) client.getWindow().getHeight();
+        SlotGrid currentGrid = null;
+        int currentOriginX = 0, currentOriginY = 0;
+        if (current instanceof HandledScreenAccessor accessor) {
+            currentGrid = accessor.midnightcontrols$getSlotGrid();
+            currentOriginX = accessor.getX();
+            currentOriginY = accessor.getY();
+        }
+        if (current != screen || currentGrid != grid || currentOriginX != originX || currentOriginY != originY
+                || x != mouseX || y != mouseY || (slot != null && !slot.isEnabled())) {
+            screen = current;
+            grid = currentGrid;
+            originX = currentOriginX;
+            originY = currentOriginY;
+            mouseX = x;
+            mouseY = y;
+            slot = current instanceof HandledScreenAccessor accessor ? accessor.midnightcontrols$getSlotAt(x, y) : null;
+            compatSlot = null;
+            compatResolved = false;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the slot of the handled screen hovered by the cursor.
+     *
+     * @param client the client instance
+     * @return the hovered slot, or {@code null} if no slot is hovered
+     */
+    public static @Nullable Slot getSlot(@NotNull MinecraftClient client) {
+        resolve(client);
+        return slot;
+    }
+
+    /**
+     * Gets the slot provided by the compatibility handlers hovered by the cursor, only looked up if no vanilla slot is hovered.
+     *
+     * @param client the client instance
+     * @return the position of the hovered slot, or {@code null} if no slot is hovered
+     */
+    public static @Nullable CompatHandler.SlotPos getCompatSlot(@NotNull MinecraftClient client) {
+        var current = resolve(client);
+        if (current == null || slot != null)
+            return null;
+        if (!compatResolved) {
+            compatSlot = MidnightControlsCompat.getSlotAt(current, (int) mouseX, (int) mouseY);
+            compatResolved = true;
+        }
+        return compatSlot;
+    }
+
+    /**
+     * Gets the X coordinate of the cursor used by the last resolution, scaled to the GUI.
+     *
+     * @return the X coordinate
+     */
+    public static double getMouseX() {
+        return mouseX;
+    }
+
+    /**
+     * Gets the Y coordinate of the cursor used by the last resolution, scaled to the GUI.
+     *
+     * @return the Y coordinate
+     */
+    public static double getMouseY() {
+        return mouseY;
+    }
+
+    /**
+     * Invalidates the cache, the hovered slot is resolved again on the next query.
+     */
+    public static void invalidate() {
+        screen = null;
+        grid = null;
+        slot = null;
+        compatSlot = null;
+        compatResolved = false;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.util;
+
+import net.minecraft.screen.slot.Slot;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Represents a spatial index of the slot centers of a handled screen, relative to the top-left corner of its GUI.
+ * <p>
+ * The slots are bucketed into a uniform grid of cells the size of a slot,
+ * so nearest slot queries only visit the cells around the queried point and do not allocate.
+ */
+public final class SlotGrid {
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int RIGHT = 2;
+    public static final int LEFT = 3;
+    private static final int CELL_SIZE = 18;
+    private final List<Slot> slots;
+    private final int[] centerX;
+    private final int[] centerY;
+    private final int minX;
+    private final int minY;
+    private final int columns;
+    private final int rows;
+    // Slot indices sorted by cell, cellStarts[cell] is the first index of the cell in cellSlots.
+    private final int[] cellStarts;
+    private final int[] cellSlots;
+
+    public SlotGrid(@NotNull List<Slot> slots) {
+        this.slots = slots;
+        int count = slots.size();
+        this.centerX = new int[count];
+        this.centerY = new int[count];
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            var slot = slots.get(i);
+            this.centerX[i] = slot.x + 8;
+            this.centerY[i] = slot.y + 8;
+            minX = Math.min(minX, this.centerX[i]);
+            minY = Math.min(minY, this.centerY[i]);
+            maxX = Math.max(maxX, this.centerX[i]);
+            maxY = Math.max(maxY, this.centerY[i]);
+        }
+        if (count == 0) {
+            minX = minY = maxX = maxY = 0;
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.columns = (maxX - minX) / CELL_SIZE + 1;
+        this.rows = (maxY - minY) / CELL_SIZE + 1;
+
+        this.cellStarts = new int[this.columns * this.rows + 1];
+        this.cellSlots = new int[count];
+        for (int i = 0; i < count; i++)
+            this.cellStarts[this.cellOf(i) + 1]++;
+        for (int cell = 0; cell < this.columns * this.rows; cell++)
+            this.cellStarts[cell + 1] += this.cellStarts[cell];
+        var next = new int[this.columns * this.rows];
+        for (int i = 0; i < count; i++) {
+            int cell = this.cellOf(i);
+            this.cellSlots[this.cellStarts[cell] + next[cell]++] = i;
+        }
+    }
+
+    private int cellOf(int slot) {
+        return this.row(this.centerY[slot]) * this.columns + this.column(this.centerX[slot]);
+    }
+
+    private int column(int x) {
+        return Math.max(0, Math.min(this.columns - 1, Math.floorDiv(x - this.minX, CELL_SIZE)));
+    }
+
+    private int row(int y) {
+        return Math.max(0, Math.min(this.rows - 1, Math.floorDiv(y - this.minY, CELL_SIZE)));
+    }
+
+    /**
+     * Returns whether this grid still matches the specified slots.
+     *
+     * @param slots the slots of the screen handler
+     * @return true if the grid matches, else false
+     */
+    public boolean matches(@NotNull List<Slot> slots) {
+        return this.slots == slots && this.centerX.length == slots.size();
+    }
+
+    /**
+     * Gets the slot whose center is the nearest to the specified point, within the specified distance.
+     *
+     * @param x the X coordinate relative to the GUI
+     * @param y the Y coordinate relative to the GUI
+     * @param maxDistance the maximum distance
+     * @return the nearest slot, or {@code null} if no slot is close enough
+     */
+    public @Nullable Slot getNearest(int x, int y, int maxDistance) {
+        int best = -1;
+        long bestDistance = (long) maxDistance * maxDistance;
+        int fromColumn = this.column(x - maxDistance), toColumn = this.column(x + maxDistance);
+        int fromRow = this.row(y - maxDistance), toRow = this.row(y + maxDistance);
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = row * this.columns + column;
+                for (int j = this.cellStarts[cell]; j < this.cellStarts[cell + 1]; j++) {
+                    int i = this.cellSlots[j];
+                    long distance = this.distance(i, x, y);
+                    if (distance < bestDistance || (distance == bestDistance && (best == -1 || i < best))) {
+                        best = i;
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+        return best == -1 ? null : this.slots.get(best);
+    }
+
+    /**
+     * Gets the slot whose center is the nearest to the specified point in the specified direction.
+     *
+     * @param x the X coordinate relative to the GUI
+     * @param y the Y coordinate relative to the GUI
+     * @param direction the direction: {@link #UP}, {@link #DOWN}, {@link #RIGHT} or {@link #LEFT}
+     * @param excluded the slot to exclude, may be null
+     * @return the nearest slot, or {@code null} if there is no slot in this direction
+     */
+    public @Nullable Slot getNearestInDirection(int x, int y, int direction, @Nullable Slot excluded) {
+        int originColumn = this.column(x), originRow = this.row(y);
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        int rings = Math.max(this.columns, this.rows);
+        for (int ring = 0; ring <= rings; ring++) {
+            for (int row = originRow - ring; row <= originRow + ring; row++) {
+                if (row < 0 || row >= this.rows)
+                    continue;
+                boolean edgeRow = row == originRow - ring || row == originRow + ring;
+                for (int column = originColumn - ring; column <= originColumn + ring; column += edgeRow ? 1 : 2 * ring) {
+                    if (column >= 0 && column < this.columns) {
+                        int cell = row * this.columns + column;
+                        for (int j = this.cellStarts[cell]; j < this.cellStarts[cell + 1]; j++) {
+                            int i = this.cellSlots[j];
+                            if (!this.isInDirection(i, x, y, direction) || this.slots.get(i) == excluded)
+                                continue;
+                            long distance = this.distance(i, x, y);
+                            if (distance < bestDistance || (distance == bestDistance && i < best)) {
+                                best = i;
+                                bestDistance = distance;
+                            }
+                        }
+                    }
+                    if (ring == 0)
+                        break;
+                }
+            }
+            // The cells of the next rings are at least this far from the point.
+            long bound = (long) ring * CELL_SIZE;
+            if (best != -1 && bestDistance <= bound * bound)
+                break;
+        }
+        return best == -1 ? null : this.slots.get(best);
+    }
+
+    private boolean isInDirection(int slot, int x, int y, int direction) {
+        return switch (direction) {
+            case UP -> this.centerY[slot] < y;
+            case DOWN -> this.centerY[slot] > y;
+            case RIGHT -> this.centerX[slot] > x;
+            case LEFT -> this.centerX[slot] < x;
+            default -> false;
+        };
+    }
+
+    private long distance(int slot, int x, int y) {
+        long dx = this.centerX[slot] - x;
+        long dy = this.centerY[slot] - y;
+        return dx * dx + dy * dy;
+    }
+}